@@ -1,16 +1,14 @@
 import { api } from '@/api';
-import type { BoardColumnRequest, BoardColumnResponse } from '@/types/interfaces/boardColumn';
-import type { ProjectResponse } from '@/types/interfaces/project';
+import type { BoardColumnRequest, BoardColumnResponse, BoardDeltaResponse } from '@/types/interfaces/boardColumn';
 
-export const createColumn = async (projectId: number, column: BoardColumnRequest): Promise<BoardColumnResponse> => {
+export const createColumn = async (projectId: number, column: BoardColumnRequest): Promise<BoardDeltaResponse> => {
     try {
-        
+        const response = await api.post<BoardDeltaResponse>(`/projects/${projectId}/columns`, column);
+        return response.data;
     } catch (error) {
         console.error(error);
         throw error;
     }
-    const response = await api.post<BoardColumnResponse>(`/projects/${projectId}/columns`, column);
-    return response.data;
 };
 
 export const updateColumn = async (projectId: number, columnId: number, data: Partial<BoardColumnRequest>): Promise<BoardColumnResponse> => {
@@ -24,9 +22,9 @@ export const updateColumn = async (projectId: number, columnId: number, data: Pa
     }
 };
 
-export const deleteColumn = async (projectId: number, columnId: number): Promise<ProjectResponse> => {
+export const deleteColumn = async (projectId: number, columnId: number): Promise<BoardDeltaResponse> => {
     try {
-        const response = await api.delete<ProjectResponse>(`/projects/${projectId}/columns/${columnId}`);
+        const response = await api.delete<BoardDeltaResponse>(`/projects/${projectId}/columns/${columnId}`);
         return response.data;
     } catch (error) {
         console.error(error);
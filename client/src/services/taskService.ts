@@ -1,5 +1,5 @@
 import { api } from '@/api';
-import type { TaskRequest, TaskResponse } from '@/types/interfaces/task';
+import type { TaskPatchRequest, TaskRequest, TaskResponse } from '@/types/interfaces/task';
 
 export const createTask = async (
     projectId: number,
@@ -23,12 +23,13 @@ export const updateTask = async (
     projectId: number,
     columnId: number,
     taskId: number,
-    updatedTask: Partial<TaskRequest>
+    updatedTask: TaskPatchRequest
 ): Promise<TaskResponse> => {
     try {
-        const response = await api.put<TaskResponse>(
+        const response = await api.patch<TaskResponse>(
             `/projects/${projectId}/columns/${columnId}/tasks/${taskId}`,
-            updatedTask
+            updatedTask,
+            { headers: { 'Content-Type': 'application/merge-patch+json' } }
         );
         return response.data;
     } catch (error) {
@@ -9,7 +9,7 @@ import { createTask, updateTask, deleteTask } from "@/services/taskService";
 
 import type { ProjectResponse, ProjectRequest } from "@/types/interfaces/project";
 import type { BoardColumnRequest } from "@/types/interfaces/boardColumn";
-import type { TaskRequest } from "@/types/interfaces/task";
+import type { TaskPatchRequest, TaskRequest } from "@/types/interfaces/task";
 import type { UserProjectRequest } from "@/types/interfaces/userProject";
 import type { ResponseError } from "@/types/responseError";
 
@@ -68,14 +68,20 @@ export const useProjectStore = defineStore("project", () => {
         isLoading.value = true;
         resetError();
         try {
-            const response = await createColumn(column.projectId, column);
-            projectState.value?.boardColumns.push(response);
-            await fetchProjectById(column.projectId);
+            const delta = await createColumn(column.projectId, column);
+            const knownVersion = projectState.value?.boardVersion;
+            if (!projectState.value || !delta.createdColumn
+                || (knownVersion !== undefined && delta.boardVersion !== knownVersion + 1)) {
+                // Une modification de structure a été manquée : on recharge le tableau.
+                await fetchProjectById(column.projectId);
+                return;
+            }
+            projectState.value.boardColumns.push({ ...delta.createdColumn, tasks: delta.createdColumn.tasks ?? [] });
+            projectState.value.boardVersion = delta.boardVersion;
         } catch (err) {
             error.value = handleError(err);
         } finally {
             isLoading.value = false;
-    
         }
     };
 
@@ -99,8 +105,17 @@ export const useProjectStore = defineStore("project", () => {
         resetError();
         try {
             const projectId = getProjectId();
-            const response = await deleteColumn(projectId, columnId);
-            projectState.value = response;
+            const delta = await deleteColumn(projectId, columnId);
+            const knownVersion = projectState.value?.boardVersion;
+            if (!projectState.value || (knownVersion !== undefined && delta.boardVersion !== knownVersion + 1)) {
+                // Une modification de structure a été manquée : on recharge le tableau.
+                await fetchProjectById(projectId);
+                return;
+            }
+            projectState.value.boardColumns = projectState.value.boardColumns.filter(
+                (col) => col.id !== delta.deletedId
+            );
+            projectState.value.boardVersion = delta.boardVersion;
         } catch (err) {
             error.value = handleError(err);
         } finally {
@@ -129,9 +144,13 @@ export const useProjectStore = defineStore("project", () => {
         try {
             const projectId = getProjectId();
     
-            const newColumnId = updatedTask.columnBoardId ?? oldColumnId;
+            const { columnBoardId, ...fields } = updatedTask;
+            const newColumnId = columnBoardId ?? oldColumnId;
+            const patch: TaskPatchRequest = columnBoardId === undefined
+                ? fields
+                : { ...fields, boardColumnId: columnBoardId };
     
-            const updatedTaskResponse = await updateTask(projectId, newColumnId, taskId, updatedTask);
+            const updatedTaskResponse = await updateTask(projectId, oldColumnId, taskId, patch);
     
             if (newColumnId !== oldColumnId) {
 
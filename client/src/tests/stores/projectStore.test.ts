@@ -172,16 +172,13 @@ describe('Project Store', () => {
     });
 
     it('should add a column successfully', async () => {
-    // On va créer un "mockProjectAvecColonne"
-        const mockProjectWithColumn: ProjectResponse = {
-            ...mockProject,
-            boardColumns: [mockColumn],
-        };
-
-        mockedBoardColumnService.createColumn.mockResolvedValue(mockColumn);
-        mockedProjectService.getProjectById.mockResolvedValue(mockProjectWithColumn);
+        mockedBoardColumnService.createColumn.mockResolvedValue({
+            affectedColumnIds: [],
+            boardVersion: 4,
+            createdColumn: mockColumn,
+        });
 
-        store.projectState = { ...mockProject, boardColumns: [] }; // État initial
+        store.projectState = { ...mockProject, boardColumns: [], boardVersion: 3 }; // État initial
 
         await store.addColumn({
             name: 'New Column',
@@ -189,8 +186,25 @@ describe('Project Store', () => {
         });
 
         expect(store.isLoading).toBe(false);
-        // On s’attend à voir la colonne ajoutée
+        // La colonne est ajoutée à partir du delta, sans recharger le projet
         expect(store.projectState?.boardColumns).toContainEqual(mockColumn);
+        expect(store.projectState?.boardVersion).toBe(4);
+        expect(mockedProjectService.getProjectById).not.toHaveBeenCalled();
+    });
+
+    it('should reload the project when a created column skips a board version', async () => {
+        store.projectState = { ...mockProject, boardColumns: [], boardVersion: 3 };
+        mockedBoardColumnService.createColumn.mockResolvedValue({
+            affectedColumnIds: [],
+            boardVersion: 5,
+            createdColumn: mockColumn,
+        });
+        mockedProjectService.getProjectById.mockResolvedValue({ ...mockProject, boardColumns: [mockColumn], boardVersion: 5 });
+
+        await store.addColumn({ name: 'New Column', projectId: 1 });
+
+        expect(mockedProjectService.getProjectById).toHaveBeenCalledWith(1);
+        expect(store.projectState?.boardVersion).toBe(5);
     });
 
     it('should handle createColumn error', async () => {
@@ -225,19 +239,37 @@ describe('Project Store', () => {
         const projectWithOneColumn: ProjectResponse = {
             ...mockProject,
             boardColumns: [mockColumn],
-        };
-        const projectWithoutColumn: ProjectResponse = {
-            ...mockProject,
-            boardColumns: [],
+            boardVersion: 3,
         };
 
         store.projectState = projectWithOneColumn;
-        mockedBoardColumnService.deleteColumn.mockResolvedValue(projectWithoutColumn);
+        mockedBoardColumnService.deleteColumn.mockResolvedValue({
+            deletedId: mockColumn.id,
+            affectedColumnIds: [],
+            boardVersion: 4,
+        });
 
-        await store.removeColumn(1);
+        await store.removeColumn(mockColumn.id);
 
         expect(store.isLoading).toBe(false);
         expect(store.projectState?.boardColumns).toHaveLength(0);
+        expect(store.projectState?.boardVersion).toBe(4);
+        expect(mockedProjectService.getProjectById).not.toHaveBeenCalled();
+    });
+
+    it('should reload the project when a column delta skips a board version', async () => {
+        store.projectState = { ...mockProject, boardColumns: [mockColumn], boardVersion: 3 };
+        mockedBoardColumnService.deleteColumn.mockResolvedValue({
+            deletedId: mockColumn.id,
+            affectedColumnIds: [],
+            boardVersion: 5,
+        });
+        mockedProjectService.getProjectById.mockResolvedValue({ ...mockProject, boardColumns: [], boardVersion: 5 });
+
+        await store.removeColumn(mockColumn.id);
+
+        expect(mockedProjectService.getProjectById).toHaveBeenCalledWith(mockProject.id);
+        expect(store.projectState?.boardVersion).toBe(5);
     });
 
     it('should add a task successfully', async () => {
@@ -288,6 +320,28 @@ describe('Project Store', () => {
         expect(col?.tasks[0].taskStatus).toBe('IN_PROGRESS');
     });
 
+    it('should move a task to the column chosen in the edit form', async () => {
+        const columnWithOneTask: BoardColumnResponse = { ...mockColumn, tasks: [mockTask] };
+        const otherColumn: BoardColumnResponse = { ...mockColumn, id: 2, name: 'Done', tasks: [] };
+        store.projectState = { ...mockProject, boardColumns: [columnWithOneTask, otherColumn] };
+
+        const movedTask: TaskResponse = { ...mockTask, columnBoardId: 2 };
+        mockedTaskService.updateTask.mockResolvedValue(movedTask);
+
+        await store.updateTaskDetails(1, 1, {
+            title: 'Task 1',
+            columnBoardId: 2,
+        });
+
+        // Le serveur lit la colonne sous boardColumnId dans le corps du patch.
+        expect(mockedTaskService.updateTask).toHaveBeenCalledWith(mockProject.id, 1, 1, {
+            title: 'Task 1',
+            boardColumnId: 2,
+        });
+        expect(store.projectState?.boardColumns[0].tasks).toEqual([]);
+        expect(store.projectState?.boardColumns[1].tasks).toEqual([movedTask]);
+    });
+
     it('should remove a task successfully', async () => {
 
         const columnWithOneTask: BoardColumnResponse = {
@@ -7,6 +7,13 @@ export interface BoardColumnRequest {
   tasks?: TaskResponse[];
 }
 
+export interface BoardDeltaResponse {
+  deletedId?: number;
+  affectedColumnIds: number[];
+  boardVersion: number;
+  createdColumn?: BoardColumnResponse;
+}
+
 export interface BoardColumnResponse {
 	id: number;
   name: string;
@@ -27,5 +27,6 @@ export interface ProjectResponse {
   createdBy: UserSimplifiedResponse;
   users: UserSimplifiedResponse[];
   boardColumns: BoardColumnResponse[];
+  boardVersion?: number;
 }
 
@@ -12,6 +12,11 @@ export interface TaskRequest {
   updatedAt?: string;
 }
 
+// Corps JSON Merge Patch d'une tâche : le serveur attend la colonne sous boardColumnId.
+export type TaskPatchRequest = Omit<Partial<TaskRequest>, 'columnBoardId'> & {
+  boardColumnId?: number;
+};
+
 export interface TaskResponse {
   id: number;
   title: string;
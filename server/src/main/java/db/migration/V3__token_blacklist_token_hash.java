@@ -0,0 +1,53 @@
+package db.migration;
+
+import org.example.server.security.TokenHashUtil;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * token_blacklist est clé par l'empreinte SHA-256 du token et non plus par le token lui-même.
+ * Les empreintes sont calculées par TokenHashUtil, comme à la déconnexion : une révocation
+ * encore valide reste donc reconnue après la migration. Les entrées expirées, ou sans date
+ * d'expiration, ne sont pas reprises.
+ */
+public class V3__token_blacklist_token_hash extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table token_blacklist_hash ("
+                    + " token_hash varchar(64) not null,"
+                    + " expiry_date datetime(6) not null,"
+                    + " primary key (token_hash)"
+                    + ") engine=InnoDB");
+        }
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "select token, expiry_date from token_blacklist where expiry_date > ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into token_blacklist_hash (token_hash, expiry_date) values (?, ?)")) {
+            select.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    insert.setString(1, TokenHashUtil.sha256(rows.getString("token")));
+                    insert.setTimestamp(2, rows.getTimestamp("expiry_date"));
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table token_blacklist");
+            statement.execute("alter table token_blacklist_hash rename to token_blacklist");
+            statement.execute("create index idx_token_blacklist_expiry_date on token_blacklist (expiry_date)");
+        }
+    }
+}
@@ -5,41 +5,46 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.example.server.exception.ProjectNotFoundException;
 import org.example.server.exception.UnauthorizedProjectAccessException;
-import org.example.server.exception.UserNotFoundException;
-import org.example.server.model.Project;
 import org.example.server.model.RoleEnum;
 import org.example.server.repository.ProjectRepository;
-import org.example.server.repository.UserRepository;
+import org.example.server.security.ProjectRoleCache;
 import org.example.server.security.SecurityUtil;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 @Aspect
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE)
 @RequiredArgsConstructor
 public class AuthorizationAspect {
 
     private final SecurityUtil securityUtil;
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
+    private final ProjectRoleCache projectRoleCache;
 
     @Before("@annotation(checkProjectAuthorization) && args(projectId,..)")
     public void checkAuthorizationByProjectId(CheckProjectAuthorization checkProjectAuthorization, Long projectId) {
 
-        String currentUserEmail = securityUtil.getCurrentUserEmail();
-        RoleEnum[] authorizedRoles = checkProjectAuthorization.roles();
+        Long currentUserId = securityUtil.getCurrentUserId();
+        List<RoleEnum> authorizedRoles = Arrays.asList(checkProjectAuthorization.roles());
         boolean isNeedWriteAccess = checkProjectAuthorization.isNeedWriteAccess();
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projet non trouvé avec ID : " + projectId));
+        Set<RoleEnum> roles = projectRoleCache.getRoles(currentUserId, projectId);
 
-        boolean isAuthorized = project.getUserProjects().stream()
-                .anyMatch(userProject -> {
-                    boolean isCurrentUser = userProject.getUser().getEmail().equals(currentUserEmail);
-                    boolean hasRequiredRole = Arrays.asList(authorizedRoles).contains(userProject.getRole());
-                    boolean hasWriteAccess = !isNeedWriteAccess || userProject.getRole().equals(RoleEnum.ADMIN);
-                    return isCurrentUser && hasRequiredRole && hasWriteAccess;
+        if (roles.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("Projet non trouvé avec ID : " + projectId);
+        }
+
+        boolean isAuthorized = roles.stream()
+                .anyMatch(role -> {
+                    boolean hasRequiredRole = authorizedRoles.contains(role);
+                    boolean hasWriteAccess = !isNeedWriteAccess || role.equals(RoleEnum.ADMIN);
+                    return hasRequiredRole && hasWriteAccess;
                 });
 
         if (!isAuthorized) {
@@ -52,15 +57,9 @@ public class AuthorizationAspect {
     @Before("@annotation(CheckUserAuthorization) && args(userId,..)")
     public void checkAuthorizationByUserId(Long userId) {
 
-        String currentUserEmail = securityUtil.getCurrentUserEmail();
-
-        userRepository.findById(userId).ifPresentOrElse(user -> {
-            if (!user.getEmail().equals(currentUserEmail)) {
-                throw new UnauthorizedProjectAccessException(
-                        "Vous n'êtes pas autorisé à accéder aux données de l'utilisateur avec ID : " + userId);
-            }
-        }, () -> {
-            throw new UserNotFoundException("Utilisateur non trouvé avec ID : " + userId);
-        });
+        if (!securityUtil.getCurrentUserId().equals(userId)) {
+            throw new UnauthorizedProjectAccessException(
+                    "Vous n'êtes pas autorisé à accéder aux données de l'utilisateur avec ID : " + userId);
+        }
     }
-}
\ No newline at end of file
+}
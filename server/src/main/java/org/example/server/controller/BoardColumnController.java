@@ -1,11 +1,13 @@
 package org.example.server.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.server.dto.request.BoardColumnDtoRequest;
 import org.example.server.dto.response.BoardColumnDtoResponse;
-import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.BoardDeltaDtoResponse;
 import org.example.server.service.BoardColumnService;
+import org.example.server.util.MergePatch;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,11 +20,11 @@ public class BoardColumnController {
     private final BoardColumnService boardColumnService;
 
     @PostMapping
-    public ResponseEntity<BoardColumnDtoResponse> createBoardColumn(
+    public ResponseEntity<BoardDeltaDtoResponse> createBoardColumn(
             @PathVariable Long projectId,
             @Valid @RequestBody BoardColumnDtoRequest requestDTO
     ) {
-        BoardColumnDtoResponse response = boardColumnService.createBoardColumn(projectId, requestDTO);
+        BoardDeltaDtoResponse response = boardColumnService.createBoardColumn(projectId, requestDTO);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -45,12 +47,22 @@ public class BoardColumnController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{columnId}", consumes = MergePatch.MEDIA_TYPE)
+    public ResponseEntity<BoardColumnDtoResponse> patchBoardColumn(
+            @PathVariable Long projectId,
+            @PathVariable Long columnId,
+            @RequestBody JsonNode patch
+    ) {
+        BoardColumnDtoResponse response = boardColumnService.patchBoardColumn(projectId, columnId, patch);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{columnId}")
-    public ResponseEntity<ProjectDtoResponse> deleteBoardColumn(
+    public ResponseEntity<BoardDeltaDtoResponse> deleteBoardColumn(
             @PathVariable Long projectId,
             @PathVariable Long columnId
     ) {
-        ProjectDtoResponse response = boardColumnService.deleteBoardColumn(projectId, columnId);
+        BoardDeltaDtoResponse response = boardColumnService.deleteBoardColumn(projectId, columnId);
         return ResponseEntity.ok(response);
     }
 }
@@ -38,4 +38,15 @@ public class LoginController {
         }
         return ResponseEntity.badRequest().body("Authorization header manquante ou invalide");
     }
+
+    @PostMapping("/logout/all")
+    public ResponseEntity<?> logoutAllSessions(@RequestHeader("Authorization") String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            String token = authorizationHeader.substring(7);
+            loginService.logoutAllSessions(token);
+            SecurityContextHolder.clearContext();
+            return ResponseEntity.ok().body("Toutes les sessions ont été déconnectées");
+        }
+        return ResponseEntity.badRequest().body("Authorization header manquante ou invalide");
+    }
 }
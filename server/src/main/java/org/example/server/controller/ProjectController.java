@@ -1,20 +1,31 @@
 package org.example.server.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.example.server.dto.request.ProjectDtoRequest;
+import org.example.server.dto.request.TaskBatchDtoRequest;
 import org.example.server.dto.request.RoleRequest;
 import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.TaskBatchDtoResponse;
 import org.example.server.mapper.ProjectMapper;
 import org.example.server.model.Project;
 import org.example.server.model.RoleEnum;
+import org.example.server.service.ProjectExportService;
 import org.example.server.service.ProjectService;
+import org.example.server.service.TaskService;
+import org.example.server.util.MergePatch;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -22,9 +33,15 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectExportService projectExportService;
+    private final TaskService taskService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService,
+                             ProjectExportService projectExportService,
+                             TaskService taskService) {
         this.projectService = projectService;
+        this.projectExportService = projectExportService;
+        this.taskService = taskService;
     }
 
     @PostMapping("/create")
@@ -45,6 +62,15 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{projectId}", consumes = MergePatch.MEDIA_TYPE)
+    public ResponseEntity<ProjectDtoResponse> patchProject(
+            @PathVariable Long projectId,
+            @RequestBody JsonNode patch) {
+
+        ProjectDtoResponse response = projectService.patchProject(projectId, patch);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long projectId) {
         projectService.deleteProject(projectId);
@@ -64,4 +90,20 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @PostMapping("/{projectId}/tasks/batch")
+    public ResponseEntity<TaskBatchDtoResponse> applyTaskBatch(
+            @PathVariable Long projectId,
+            @RequestBody TaskBatchDtoRequest request) {
+        return ResponseEntity.ok(taskService.applyBatch(projectId, request));
+    }
+
+    @GetMapping("/{projectId}/export")
+    public void exportProject(@PathVariable Long projectId, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("projet-" + projectId + ".ndjson").build().toString());
+        projectExportService.exportProject(projectId, response.getOutputStream());
+    }
+
 }
@@ -1,14 +1,22 @@
 package org.example.server.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.example.server.dto.request.TaskDtoRequest;
+import org.example.server.dto.request.TaskReorderDtoRequest;
 import org.example.server.dto.response.TaskDtoResponse;
+import org.example.server.dto.response.TaskImportReportDtoResponse;
+import org.example.server.dto.response.TaskPageDtoResponse;
 import org.example.server.dto.response.TaskSimplifiedDtoResponse;
+import org.example.server.service.TaskImportService;
 import org.example.server.service.TaskService;
+import org.example.server.util.MergePatch;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,9 +24,11 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskImportService taskImportService) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
     }
 
     @PostMapping
@@ -30,6 +40,15 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskImportReportDtoResponse> importTasks(
+            @PathVariable Long projectId,
+            @PathVariable Long boardColumnId,
+            InputStream body) {
+        TaskImportReportDtoResponse report = taskImportService.importTasks(projectId, boardColumnId, body);
+        return ResponseEntity.ok(report);
+    }
+
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskDtoResponse> updateTask(
             @PathVariable Long projectId,
@@ -39,6 +58,15 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    @PatchMapping(value = "/{taskId}", consumes = MergePatch.MEDIA_TYPE)
+    public ResponseEntity<TaskDtoResponse> patchTask(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @RequestBody JsonNode patch) {
+        TaskDtoResponse updatedTask = taskService.patchTask(projectId, taskId, patch);
+        return ResponseEntity.ok(updatedTask);
+    }
+
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long projectId,
@@ -55,6 +83,15 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageDtoResponse> getTaskPage(
+            @PathVariable Long projectId,
+            @PathVariable Long boardColumnId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(taskService.getTaskPage(projectId, boardColumnId, cursor, size));
+    }
+
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskDtoResponse> getTaskById(
             @PathVariable Long projectId,
@@ -67,9 +104,21 @@ public class TaskController {
     public ResponseEntity<TaskDtoResponse> moveTaskToColumn(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
-            @PathVariable Long boardColumnId
+            @PathVariable Long boardColumnId,
+            @RequestParam(required = false) Long version
+    ) {
+        TaskDtoResponse response = taskService.moveTaskToColumn(projectId, taskId, boardColumnId, version);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{taskId}/reorder")
+    public ResponseEntity<TaskDtoResponse> reorderTask(
+            @PathVariable Long projectId,
+            @PathVariable Long boardColumnId,
+            @PathVariable Long taskId,
+            @RequestBody TaskReorderDtoRequest request
     ) {
-        TaskDtoResponse response = taskService.moveTaskToColumn(projectId, taskId, boardColumnId);
+        TaskDtoResponse response = taskService.reorderTask(projectId, boardColumnId, taskId, request);
         return ResponseEntity.ok(response);
     }
 }
@@ -2,8 +2,11 @@ package org.example.server.controller;
 
 import jakarta.validation.Valid;
 import org.example.server.dto.request.UserDtoRequest;
+import org.example.server.dto.response.ProjectSummaryDtoResponse;
 import org.example.server.dto.response.UserDtoResponse;
+import org.example.server.service.ProjectService;
 import org.example.server.service.UserService;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,9 +16,11 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final ProjectService projectService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ProjectService projectService) {
         this.userService = userService;
+        this.projectService = projectService;
     }
 
     @PostMapping("/register")
@@ -28,4 +33,12 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    @GetMapping("/{id}/projects")
+    public ResponseEntity<PagedModel<ProjectSummaryDtoResponse>> getUserProjects(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(new PagedModel<>(projectService.getProjectSummariesByUserId(id, page, size)));
+    }
+
 }
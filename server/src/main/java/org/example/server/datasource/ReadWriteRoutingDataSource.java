@@ -0,0 +1,40 @@
+package org.example.server.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Envoie les transactions en lecture seule vers le réplica et tout le reste vers le primaire.
+ * Doit être enveloppée dans un LazyConnectionDataSourceProxy : la connexion n'est alors
+ * choisie qu'à la première requête, une fois le caractère lecture seule de la transaction connu.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesGuard.pinAfterCommit();
+            return Route.PRIMARY;
+        }
+        return readYourWritesGuard.isPinnedToPrimary() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.server.datasource;
+
+import org.example.server.security.AuthenticatedUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Garde chaque utilisateur sur le primaire pendant une courte fenêtre après l'une de ses
+ * écritures, le temps que le réplica rattrape son retard.
+ */
+public class ReadYourWritesGuard {
+
+    private final long window;
+    private final int maxSize;
+    private final Map<Long, Long> pinnedUntilByUserId = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(long window, int maxSize) {
+        this.window = window;
+        this.maxSize = maxSize;
+    }
+
+    public boolean isPinnedToPrimary() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long pinnedUntil = pinnedUntilByUserId.get(userId);
+        return pinnedUntil != null && System.currentTimeMillis() < pinnedUntil;
+    }
+
+    /**
+     * Épingle l'utilisateur courant au primaire dès que la transaction d'écriture est validée.
+     */
+    public void pinAfterCommit() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(userId);
+            }
+        });
+    }
+
+    void pin(Long userId) {
+        long now = System.currentTimeMillis();
+        if (pinnedUntilByUserId.size() >= maxSize) {
+            pinnedUntilByUserId.values().removeIf(pinnedUntil -> pinnedUntil <= now);
+        }
+        pinnedUntilByUserId.put(userId, now + window);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
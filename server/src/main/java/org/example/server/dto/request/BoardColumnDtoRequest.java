@@ -15,4 +15,6 @@ public class BoardColumnDtoRequest {
 
     private List<TaskDtoRequest> tasks;
 
+    private Long version;
+
 }
\ No newline at end of file
@@ -42,4 +42,6 @@ public class TaskDtoRequest {
     @Size(max = 7, message = "La couleur doit être une valeur hexadécimale de 7 caractères")
     private String tagColor;
 
+    private Long version;
+
 }
@@ -0,0 +1,31 @@
+package org.example.server.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Une opération d'un lot : UPDATE applique changes, MOVE place la tâche dans
+ * boardColumnId (sa colonne actuelle par défaut) entre previousTaskId et nextTaskId,
+ * DELETE supprime la tâche. Un lot incrémente une seule fois la version d'une tâche : les
+ * opérations qui suivent la première sur la même tâche portent la version incrémentée.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskOperationDtoRequest {
+
+    public enum Type {
+        UPDATE, MOVE, DELETE
+    }
+
+    private Type type;
+    private Long taskId;
+    private Long version;
+    private TaskDtoRequest changes;
+    private Long boardColumnId;
+    private Long previousTaskId;
+    private Long nextTaskId;
+}
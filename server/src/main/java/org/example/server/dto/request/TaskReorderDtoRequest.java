@@ -0,0 +1,20 @@
+package org.example.server.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nouvelle position d'une carte, donnée par ses voisins dans la colonne cible.
+ * Sans voisin, la carte est placée en fin de colonne.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskReorderDtoRequest {
+    private Long previousTaskId;
+    private Long nextTaskId;
+    private Long version;
+}
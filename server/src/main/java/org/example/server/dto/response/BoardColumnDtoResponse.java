@@ -13,5 +13,6 @@ public class BoardColumnDtoResponse {
     private Long projectId;
     private LocalDate createdDate;
     private LocalDate updatedDate;
+    private Long version;
     private List<TaskDtoResponse> tasks;
 }
\ No newline at end of file
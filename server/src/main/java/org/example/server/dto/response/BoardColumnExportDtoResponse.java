@@ -0,0 +1,12 @@
+package org.example.server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BoardColumnExportDtoResponse {
+    private final String type = "column";
+    private Long id;
+    private String name;
+}
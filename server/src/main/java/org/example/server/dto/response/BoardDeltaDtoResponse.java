@@ -0,0 +1,22 @@
+package org.example.server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Réponse compacte d'une modification de structure du tableau : le client applique le delta
+ * localement et recharge le projet si boardVersion ne suit pas sa version connue. createdColumn
+ * porte la colonne ajoutée, deletedId la colonne supprimée.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardDeltaDtoResponse {
+    private Long deletedId;
+    private List<Long> affectedColumnIds;
+    private Long boardVersion;
+    private BoardColumnDtoResponse createdColumn;
+}
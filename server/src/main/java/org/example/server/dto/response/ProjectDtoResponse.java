@@ -29,4 +29,5 @@ public class ProjectDtoResponse {
     private UserSimplifiedDtoResponse createdBy;
     private List<UserSimplifiedDtoResponse> users;
     private List<BoardColumnDtoResponse> boardColumns;
+    private Long boardVersion;
 }
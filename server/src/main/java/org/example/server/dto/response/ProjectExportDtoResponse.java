@@ -0,0 +1,18 @@
+package org.example.server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class ProjectExportDtoResponse {
+    private final String type = "project";
+    private Long id;
+    private String name;
+    private String description;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String createdBy;
+}
@@ -0,0 +1,51 @@
+package org.example.server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.server.model.PositionEnum;
+import org.example.server.model.RoleEnum;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@Data
+public class ProjectSummaryDtoResponse {
+    private Long id;
+    private String name;
+    private String description;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy")
+    private LocalDate startDate;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy")
+    private LocalDate endDate;
+    private UserSimplifiedDtoResponse createdBy;
+    private RoleEnum role;
+    private long memberCount;
+    private long notStartedTaskCount;
+    private long inProgressTaskCount;
+    private long completedTaskCount;
+
+    public ProjectSummaryDtoResponse(Long id, String name, String description, LocalDate startDate, LocalDate endDate,
+                                     Long creatorId, String creatorFirstName, String creatorLastName,
+                                     String creatorEmail, PositionEnum creatorPosition, RoleEnum role,
+                                     long memberCount, long notStartedTaskCount, long inProgressTaskCount,
+                                     long completedTaskCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdBy = UserSimplifiedDtoResponse.builder()
+                .id(creatorId)
+                .firstName(creatorFirstName)
+                .lastName(creatorLastName)
+                .email(creatorEmail)
+                .position(creatorPosition != null ? creatorPosition.toString() : null)
+                .build();
+        this.role = role;
+        this.memberCount = memberCount;
+        this.notStartedTaskCount = notStartedTaskCount;
+        this.inProgressTaskCount = inProgressTaskCount;
+        this.completedTaskCount = completedTaskCount;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchDtoResponse {
+    private List<TaskOperationResultDtoResponse> results;
+}
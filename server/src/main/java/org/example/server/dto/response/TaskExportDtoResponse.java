@@ -0,0 +1,25 @@
+package org.example.server.dto.response;
+
+import lombok.Data;
+import org.example.server.model.PriorityEnum;
+import org.example.server.model.TaskStatusEnum;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TaskExportDtoResponse {
+    private final String type = "task";
+    private Long id;
+    private Long columnId;
+    private String rank;
+    private String title;
+    private String detail;
+    private TaskStatusEnum taskStatus;
+    private PriorityEnum priority;
+    private LocalDate dueDate;
+    private String tag;
+    private String tagColor;
+    private List<UserSimplifiedDtoResponse> assignees = new ArrayList<>();
+}
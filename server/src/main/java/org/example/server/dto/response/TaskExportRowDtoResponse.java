@@ -0,0 +1,31 @@
+package org.example.server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.server.model.PriorityEnum;
+import org.example.server.model.TaskStatusEnum;
+
+import java.time.LocalDate;
+
+/**
+ * Ligne brute de l'export : une par couple tâche / assigné, ou une seule à assigné null
+ * si la tâche n'est assignée à personne.
+ */
+@Data
+@AllArgsConstructor
+public class TaskExportRowDtoResponse {
+    private Long id;
+    private Long columnId;
+    private String rank;
+    private String title;
+    private String detail;
+    private TaskStatusEnum taskStatus;
+    private PriorityEnum priority;
+    private LocalDate dueDate;
+    private String tag;
+    private String tagColor;
+    private Long assigneeId;
+    private String assigneeFirstName;
+    private String assigneeLastName;
+    private String assigneeEmail;
+}
@@ -0,0 +1,16 @@
+package org.example.server.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TaskImportReportDtoResponse {
+    private long imported;
+    private long rejected;
+    private boolean errorsTruncated;
+    private List<TaskImportErrorDtoResponse> errors = new ArrayList<>();
+}
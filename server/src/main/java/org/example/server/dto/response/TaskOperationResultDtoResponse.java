@@ -0,0 +1,33 @@
+package org.example.server.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'une opération d'un lot, dans l'ordre de la requête. task contient la tâche
+ * à jour si l'opération est appliquée, ou son état courant en cas de conflit de version.
+ */
+@Data
+@NoArgsConstructor
+public class TaskOperationResultDtoResponse {
+
+    public enum Status {
+        APPLIED, CONFLICT, NOT_FOUND, INVALID
+    }
+
+    private int index;
+    private Long taskId;
+    private Status status;
+    private String message;
+    private TaskDtoResponse task;
+
+    public TaskOperationResultDtoResponse(int index, Long taskId) {
+        this.index = index;
+        this.taskId = taskId;
+    }
+
+    public void reject(Status status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDtoResponse {
+    private List<TaskSimplifiedDtoResponse> tasks;
+    private String nextCursor;
+}
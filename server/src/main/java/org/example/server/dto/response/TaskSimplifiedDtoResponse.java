@@ -1,10 +1,27 @@
 package org.example.server.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.server.model.PriorityEnum;
+
+import java.time.LocalDate;
 
 @Data
+@NoArgsConstructor
 public class TaskSimplifiedDtoResponse {
     private Long id;
     private String title;
     private String priority;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy")
+    private LocalDate dueDate;
+    private String rank;
+
+    public TaskSimplifiedDtoResponse(Long id, String title, PriorityEnum priority, LocalDate dueDate, String rank) {
+        this.id = id;
+        this.title = title;
+        this.priority = priority != null ? priority.name() : null;
+        this.dueDate = dueDate;
+        this.rank = rank;
+    }
 }
@@ -0,0 +1,19 @@
+package org.example.server.exception;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class ConflictErrorDetails extends ErrorDetails {
+    private Object current;
+
+    public ConflictErrorDetails(LocalDateTime timestamp, String message, String details, Object current) {
+        super(timestamp, message, details);
+        this.current = current;
+    }
+}
@@ -2,6 +2,8 @@ package org.example.server.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -103,6 +105,76 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidPageCursorException(InvalidPageCursorException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        logger.warn("InvalidPageCursorException: {}", ex.getMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ConflictErrorDetails> handleVersionConflictException(VersionConflictException ex, WebRequest request) {
+        ConflictErrorDetails errorDetails = new ConflictErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                ex.getCurrent()
+        );
+        logger.warn("VersionConflictException: {}", ex.getMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDetails> handleObjectOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex,
+            WebRequest request
+    ) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                "La ressource a été modifiée entre-temps, veuillez réessayer.",
+                request.getDescription(false)
+        );
+        logger.warn("ObjectOptimisticLockingFailureException: {}", ex.getMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(InvalidTaskPositionException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidTaskPositionException(InvalidTaskPositionException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        logger.warn("InvalidTaskPositionException: {}", ex.getMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidTaskBatchException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidTaskBatchException(InvalidTaskBatchException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        logger.warn("InvalidTaskBatchException: {}", ex.getMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidMergePatchException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidMergePatchException(InvalidMergePatchException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        logger.warn("InvalidMergePatchException: {}", ex.getMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(UserAlreadyAssignedException.class)
     public ResponseEntity<ErrorDetails> handleUserAlreadyAssignedException(UserAlreadyAssignedException ex, WebRequest request) {
         ErrorDetails errorDetails = new ErrorDetails(
@@ -150,6 +222,22 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorDetails> handlePasswordHashingUnavailableException(
+            PasswordHashingUnavailableException ex,
+            WebRequest request
+    ) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        logger.warn("PasswordHashingUnavailableException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDetails);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDetails> handleGlobalException(Exception ex, WebRequest request) {
         ErrorDetails errorDetails = new ErrorDetails(
@@ -0,0 +1,7 @@
+package org.example.server.exception;
+
+public class InvalidMergePatchException extends RuntimeException {
+    public InvalidMergePatchException(String message) {
+        super(message);
+    }
+}
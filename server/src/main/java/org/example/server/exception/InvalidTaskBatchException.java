@@ -0,0 +1,7 @@
+package org.example.server.exception;
+
+public class InvalidTaskBatchException extends RuntimeException {
+    public InvalidTaskBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.server.exception;
+
+public class InvalidTaskPositionException extends RuntimeException {
+    public InvalidTaskPositionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.server.exception;
+
+import java.util.function.Supplier;
+
+/**
+ * La version envoyée par le client ne correspond plus à celle en base. L'état courant
+ * est renvoyé avec le 409 pour que le client puisse réessayer sans recharger le tableau.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private final transient Supplier<?> current;
+
+    public VersionConflictException(String message, Object current) {
+        super(message);
+        this.current = () -> current;
+    }
+
+    /**
+     * Course perdue au moment de l'UPDATE : la transaction qui l'a perdue n'est plus
+     * utilisable. L'état courant n'est relu qu'à la construction du 409, une fois cette
+     * transaction annulée et sa connexion rendue au pool.
+     */
+    public static VersionConflictException lostRace(String message, Supplier<?> current) {
+        return new VersionConflictException(message, current);
+    }
+
+    private VersionConflictException(String message, Supplier<?> current) {
+        super(message);
+        this.current = current;
+    }
+
+    public Object getCurrent() {
+        return current.get();
+    }
+}
@@ -25,6 +25,7 @@ public class BoardColumnMapper {
         dto.setTasks(taskMapper.toTaskDTOList(boardColumn.getTasks()));
         dto.setCreatedDate(boardColumn.getCreatedDate());
         dto.setUpdatedDate(boardColumn.getUpdatedDate());
+        dto.setVersion(boardColumn.getVersion());
         return dto;
     }
 }
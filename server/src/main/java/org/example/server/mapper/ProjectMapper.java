@@ -31,6 +31,7 @@ public class ProjectMapper {
         dto.setEndDate(project.getEndDate());
         dto.setCreatedDate(project.getCreatedDate());
         dto.setUpdatedDate(project.getUpdatedDate());
+        dto.setBoardVersion(project.getBoardVersion());
 
         if (project.getCreatedBy() != null) {
             dto.setCreatedBy(sharedMapper.toSimplifiedDto(project.getCreatedBy()));
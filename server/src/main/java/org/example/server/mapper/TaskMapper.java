@@ -1,7 +1,9 @@
 package org.example.server.mapper;
 
+import org.example.server.dto.request.TaskDtoRequest;
 import org.example.server.dto.response.TaskDtoResponse;
 import org.example.server.dto.response.TaskSimplifiedDtoResponse;
+import org.example.server.model.BoardColumn;
 import org.example.server.model.Task;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +13,36 @@ import java.util.stream.Collectors;
 @Component
 public class TaskMapper {
 
+    public Task mapTaskDtoRequestToTask(TaskDtoRequest request, BoardColumn boardColumn) {
+        return Task.builder()
+                .title(request.getTitle())
+                .detail(request.getDetail())
+                .priority(request.getPriority())
+                .taskStatus(request.getTaskStatus())
+                .dueDate(request.getDueDate())
+                .boardColumn(boardColumn)
+                .tag(request.getTag())
+                .tagColor(request.getTagColor())
+                .build();
+    }
+
+    /**
+     * État courant de la tâche, sans version : sert de base à l'application d'un merge patch.
+     */
+    public TaskDtoRequest taskToTaskDtoRequest(Task task) {
+        return TaskDtoRequest.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .detail(task.getDetail())
+                .priority(task.getPriority())
+                .taskStatus(task.getTaskStatus())
+                .boardColumnId(task.getBoardColumn().getId())
+                .dueDate(task.getDueDate())
+                .tag(task.getTag())
+                .tagColor(task.getTagColor())
+                .build();
+    }
+
     public TaskDtoResponse taskToTaskDtoResponse(Task task) {
         if (task == null) {
             return null;
@@ -24,10 +56,12 @@ public class TaskMapper {
         dto.setTaskStatus(task.getTaskStatus().name());
         dto.setDueDate(task.getDueDate());
         dto.setBoardColumnId(task.getBoardColumn().getId());
+        dto.setRank(task.getRank());
         dto.setTag(task.getTag());
         dto.setTagColor(task.getTagColor());
         dto.setCreatedDate(task.getCreatedDate());
         dto.setUpdatedDate(task.getUpdatedDate());
+        dto.setVersion(task.getVersion());
 
         return dto;
     }
@@ -50,6 +84,8 @@ public class TaskMapper {
         dto.setId(task.getId());
         dto.setTitle(task.getTitle());
         dto.setPriority(task.getPriority().name());
+        dto.setDueDate(task.getDueDate());
+        dto.setRank(task.getRank());
 
         return dto;
     }
@@ -4,6 +4,10 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,8 +17,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "board_column")
+@Table(name = "board_column", indexes = @Index(name = "idx_board_column_project", columnList = "project_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +32,8 @@ import java.util.List;
 public class BoardColumn {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_column_seq")
+    @SequenceGenerator(name = "board_column_seq", sequenceName = "board_column_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -38,9 +46,15 @@ public class BoardColumn {
 
     @OneToMany(mappedBy = "boardColumn", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
+    @OrderBy("rank ASC, id ASC")
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private List<Task> tasks = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDate createdDate;
@@ -3,16 +3,25 @@ package org.example.server.model;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "project")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @Builder
@@ -23,7 +32,8 @@ import java.util.List;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -50,6 +60,14 @@ public class Project {
     @JsonManagedReference
     private List<BoardColumn> columns;
 
+    /**
+     * Version de la structure du tableau (ajout ou suppression de colonnes), renvoyée dans
+     * les deltas pour que le client détecte une modification manquée.
+     */
+    @Column(name = "board_version", nullable = false)
+    @Builder.Default
+    private Long boardVersion = 0L;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDate createdDate;
@@ -58,4 +76,11 @@ public class Project {
     @Column
     private LocalDate updatedDate;
 
+    /**
+     * Suppression logique : le projet disparaît des lectures, ses colonnes, tâches et
+     * membres sont purgés en arrière-plan par ProjectPurger.
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
 }
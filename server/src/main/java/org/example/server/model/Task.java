@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import org.example.server.util.RankGenerator;
+import org.hibernate.annotations.OptimisticLock;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "task", indexes = @Index(name = "idx_task_column_rank_id", columnList = "board_column_id, task_rank, id"))
 @Getter
 @Setter
 @Builder
@@ -23,7 +26,8 @@ import java.util.List;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -43,11 +47,20 @@ public class Task {
     @Column(nullable = false)
     private LocalDate dueDate;
 
+    /**
+     * Position de la carte dans sa colonne, voir RankGenerator. Exclu du verrouillage
+     * optimiste : un rééquilibrage ne doit pas invalider les versions détenues par les clients.
+     */
+    @Column(name = "task_rank", nullable = false, length = RankGenerator.MAX_LENGTH)
+    @OptimisticLock(excluded = true)
+    private String rank;
+
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
             name = "user_task",
             joinColumns = @JoinColumn(name = "task_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_user_task_user_task", columnList = "user_id, task_id")
     )
     private List<User> users;
 
@@ -63,6 +76,10 @@ public class Task {
     @Pattern(regexp = "^#(?:[0-9a-fA-F]{3}){1,2}$", message = "La couleur doit être une valeur hexadecimal")
     private String tagColor;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDate createdDate;
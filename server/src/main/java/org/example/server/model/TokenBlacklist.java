@@ -1,17 +1,22 @@
 package org.example.server.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 import java.util.Date;
 
 @Entity
-@Table(name = "token_blacklist")
+@Table(name = "token_blacklist", indexes = @Index(name = "idx_token_blacklist_expiry_date", columnList = "expiryDate"))
 @Data
 public class TokenBlacklist {
     @Id
-    private String token;
+    @Column(length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
     private Date expiryDate;
 }
@@ -10,7 +10,7 @@ import java.time.LocalDate;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "user_project")
+@Table(name = "user_project", uniqueConstraints = @UniqueConstraint(name = "uk_user_project_user_project", columnNames = {"user_id", "project_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +21,8 @@ import java.time.LocalDate;
 public class UserProject {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_project_seq")
+    @SequenceGenerator(name = "user_project_seq", sequenceName = "user_project_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,9 +1,37 @@
 package org.example.server.repository;
 
+import org.example.server.dto.response.BoardColumnExportDtoResponse;
 import org.example.server.model.BoardColumn;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BoardColumnRepository extends JpaRepository<BoardColumn, Long> {
+    long countByProjectId(Long projectId);
+
+    boolean existsByIdAndProjectId(Long id, Long projectId);
+
+    @Query("SELECT c.project.id FROM BoardColumn c WHERE c.id = :columnId")
+    Optional<Long> findProjectIdById(@Param("columnId") Long columnId);
+
+    @Query("SELECT c FROM BoardColumn c LEFT JOIN FETCH c.tasks WHERE c.project.id = :projectId")
+    List<BoardColumn> findAllWithTasksByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new org.example.server.dto.response.BoardColumnExportDtoResponse(c.id, c.name) " +
+            "FROM BoardColumn c WHERE c.project.id = :projectId ORDER BY c.id")
+    List<BoardColumnExportDtoResponse> findExportByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM BoardColumn c WHERE c.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM BoardColumn c WHERE c.id = :columnId AND c.project.id = :projectId")
+    int deleteByIdAndProjectId(@Param("columnId") Long columnId, @Param("projectId") Long projectId);
 }
@@ -1,21 +1,97 @@
 package org.example.server.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.server.dto.response.CreatedProjectsDtoResponse;
+import org.example.server.dto.response.ProjectExportDtoResponse;
+import org.example.server.dto.response.ProjectSummaryDtoResponse;
 import org.example.server.model.Project;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    /**
+     * Verrou de ligne sérialisant les modifications de structure d'un même tableau.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> findByIdForUpdate(@Param("projectId") Long projectId);
+
+    /**
+     * Verrou partagé pris avant d'écrire un rang : les déplacements restent concurrents entre eux,
+     * mais attendent le rééquilibrage d'une colonne, qui prend le verrou exclusif.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> findByIdForShare(@Param("projectId") Long projectId);
+
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.columns WHERE p.id = :projectId")
     Optional<Project> findByIdWithColumns(@Param("projectId") Long projectId);
 
+    @Query("SELECT p FROM Project p JOIN FETCH p.createdBy LEFT JOIN FETCH p.columns WHERE p.id = :projectId")
+    Optional<Project> findBoardById(@Param("projectId") Long projectId);
+
+    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.userProjects up LEFT JOIN FETCH up.user WHERE p.id = :projectId")
+    Optional<Project> findWithMembersById(@Param("projectId") Long projectId);
+
+    @Query("SELECT new org.example.server.dto.response.ProjectExportDtoResponse(" +
+            "p.id, p.name, p.description, p.startDate, p.endDate, p.createdBy.email) " +
+            "FROM Project p WHERE p.id = :projectId")
+    Optional<ProjectExportDtoResponse> findExportById(@Param("projectId") Long projectId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Project p JOIN p.userProjects up WHERE up.user.id = :userId")
     List<Project> findAllByUserId(@Param("userId") Long userId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new org.example.server.dto.response.CreatedProjectsDtoResponse(" +
+            "p.id, p.name, p.description, p.startDate, p.endDate, p.createdDate, p.updatedDate) " +
+            "FROM Project p WHERE p.createdBy.id = :userId")
+    List<CreatedProjectsDtoResponse> findCreatedProjectsByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT new org.example.server.dto.response.ProjectSummaryDtoResponse(" +
+            "p.id, p.name, p.description, p.startDate, p.endDate, " +
+            "c.id, c.firstName, c.lastName, c.email, c.position, up.role, " +
+            "(SELECT COUNT(m) FROM UserProject m WHERE m.project = p), " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.boardColumn.project = p " +
+            "AND t.taskStatus = org.example.server.model.TaskStatusEnum.NOT_STARTED), " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.boardColumn.project = p " +
+            "AND t.taskStatus = org.example.server.model.TaskStatusEnum.IN_PROGRESS), " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.boardColumn.project = p " +
+            "AND t.taskStatus = org.example.server.model.TaskStatusEnum.COMPLETED)) " +
+            "FROM UserProject up JOIN up.project p JOIN p.createdBy c " +
+            "WHERE up.user.id = :userId AND p.deletedAt IS NULL ORDER BY p.endDate, p.id",
+            countQuery = "SELECT COUNT(up) FROM UserProject up JOIN up.project p " +
+                    "WHERE up.user.id = :userId AND p.deletedAt IS NULL")
+    Page<ProjectSummaryDtoResponse> findProjectSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.deletedAt = :deletedAt WHERE p.id = :projectId AND p.deletedAt IS NULL")
+    int softDeleteById(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Requête native : la restriction deleted_at IS NULL de l'entité masquerait ces projets.
+     */
+    @Query(value = "SELECT id FROM project WHERE deleted_at IS NOT NULL ORDER BY id", nativeQuery = true)
+    List<Long> findSoftDeletedIds();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+    @Query(value = "DELETE FROM project WHERE id = :projectId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeSoftDeletedById(@Param("projectId") Long projectId);
+
 }
 
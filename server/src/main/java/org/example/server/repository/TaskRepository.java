@@ -1,12 +1,93 @@
 package org.example.server.repository;
 
+import org.example.server.dto.response.TaskSimplifiedDtoResponse;
+import org.example.server.model.BoardColumn;
 import org.example.server.model.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findTasksByBoardColumnId(Long boardColumnId);
+
+    @Query("SELECT t FROM Task t WHERE t.id = :taskId AND t.boardColumn.project.id = :projectId")
+    Optional<Task> findByIdAndProjectId(@Param("taskId") Long taskId, @Param("projectId") Long projectId);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.boardColumn c WHERE t.id IN :taskIds AND c.project.id = :projectId")
+    List<Task> findAllByIdInAndProjectId(@Param("taskIds") Collection<Long> taskIds, @Param("projectId") Long projectId);
+
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.boardColumn.id = :boardColumnId")
+    Optional<String> findMaxRankByBoardColumnId(@Param("boardColumnId") Long boardColumnId);
+
+    @Query("SELECT new org.example.server.dto.response.TaskSimplifiedDtoResponse(t.id, t.title, t.priority, t.dueDate, t.rank) " +
+            "FROM Task t WHERE t.id IN :taskIds AND t.boardColumn.id = :boardColumnId")
+    List<TaskSimplifiedDtoResponse> findSummariesByIdInAndBoardColumnId(@Param("taskIds") Collection<Long> taskIds,
+                                                                       @Param("boardColumnId") Long boardColumnId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.boardColumn.id = :boardColumnId ORDER BY t.rank, t.id")
+    List<Long> findIdsByBoardColumnIdOrderByRank(@Param("boardColumnId") Long boardColumnId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.boardColumn.id IN " +
+            "(SELECT c.id FROM BoardColumn c WHERE c.project.id = :projectId) ORDER BY t.id")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Limit limit);
+
+    /**
+     * Suppression ensembliste : Hibernate retire aussi les lignes de user_task des tâches visées.
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int deleteAllByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.boardColumn.id = :boardColumnId")
+    int deleteAllByBoardColumnId(@Param("boardColumnId") Long boardColumnId);
+
+    /**
+     * Déplacement conditionnel en une seule requête : ne modifie la ligne que si la version
+     * est toujours celle attendue (ou si aucune version n'est fournie). Renvoie 0 sinon.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.boardColumn = :targetColumn, t.rank = :rank, t.version = t.version + 1, " +
+            "t.updatedDate = CURRENT_DATE " +
+            "WHERE t.id = :taskId AND (:version IS NULL OR t.version = :version) " +
+            "AND t.boardColumn IN (SELECT c FROM BoardColumn c WHERE c.project.id = :projectId)")
+    int moveIfVersionMatches(@Param("projectId") Long projectId,
+                             @Param("taskId") Long taskId,
+                             @Param("targetColumn") BoardColumn targetColumn,
+                             @Param("rank") String rank,
+                             @Param("version") Long version);
+
+    /**
+     * Une ligne par tâche de la colonne, ou une seule ligne à id null si la colonne est vide.
+     * Aucune ligne signifie que la colonne n'existe pas dans ce projet.
+     */
+    @Query("SELECT new org.example.server.dto.response.TaskSimplifiedDtoResponse(t.id, t.title, t.priority, t.dueDate, t.rank) " +
+            "FROM BoardColumn c LEFT JOIN c.tasks t " +
+            "WHERE c.id = :boardColumnId AND c.project.id = :projectId ORDER BY t.rank, t.id")
+    List<TaskSimplifiedDtoResponse> findTaskSummariesByBoardColumnId(@Param("projectId") Long projectId,
+                                                                    @Param("boardColumnId") Long boardColumnId);
+
+    @Query("SELECT new org.example.server.dto.response.TaskSimplifiedDtoResponse(t.id, t.title, t.priority, t.dueDate, t.rank) " +
+            "FROM Task t WHERE t.boardColumn.id = :boardColumnId AND t.boardColumn.project.id = :projectId " +
+            "ORDER BY t.rank, t.id")
+    List<TaskSimplifiedDtoResponse> findFirstTaskPage(@Param("projectId") Long projectId,
+                                                      @Param("boardColumnId") Long boardColumnId,
+                                                      Limit limit);
+
+    @Query("SELECT new org.example.server.dto.response.TaskSimplifiedDtoResponse(t.id, t.title, t.priority, t.dueDate, t.rank) " +
+            "FROM Task t WHERE t.boardColumn.id = :boardColumnId AND t.boardColumn.project.id = :projectId " +
+            "AND (t.rank > :rank OR (t.rank = :rank AND t.id > :id)) " +
+            "ORDER BY t.rank, t.id")
+    List<TaskSimplifiedDtoResponse> findTaskPageAfter(@Param("projectId") Long projectId,
+                                                      @Param("boardColumnId") Long boardColumnId,
+                                                      @Param("rank") String rank,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
 }
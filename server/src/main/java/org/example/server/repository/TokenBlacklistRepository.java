@@ -1,10 +1,26 @@
 package org.example.server.repository;
 
 import org.example.server.model.TokenBlacklist;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
 @Repository
 public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, String> {
-    boolean existsByToken(String token);
+
+    List<TokenBlacklist> findAllByExpiryDateAfter(Date date);
+
+    @Query("SELECT t.tokenHash FROM TokenBlacklist t WHERE t.expiryDate < :now")
+    List<String> findExpiredTokenHashes(@Param("now") Date now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TokenBlacklist t WHERE t.tokenHash IN :tokenHashes AND t.expiryDate < :now")
+    int deleteExpired(@Param("tokenHashes") Collection<String> tokenHashes, @Param("now") Date now);
 }
@@ -1,15 +1,37 @@
 package org.example.server.repository;
 
+import org.example.server.dto.response.UserProjectDtoResponse;
 import org.example.server.model.Project;
+import org.example.server.model.RoleEnum;
 import org.example.server.model.User;
 import org.example.server.model.UserProject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserProjectRepository extends JpaRepository<UserProject, Long> {
     Optional<UserProject> findByUserAndProject(User user, Project project);
 
+    @Query("SELECT new org.example.server.dto.response.UserProjectDtoResponse(" +
+            "up.id, p.id, p.name, p.description, p.endDate, up.role, up.userAddAt, up.createdDate, up.updatedDate) " +
+            "FROM UserProject up JOIN up.project p WHERE up.user.id = :userId AND p.deletedAt IS NULL")
+    List<UserProjectDtoResponse> findUserProjectsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Un projet supprimé logiquement n'accorde plus aucun rôle, même avant la purge de ses membres.
+     */
+    @Query("SELECT up.role FROM UserProject up JOIN up.project p " +
+            "WHERE up.user.id = :userId AND p.id = :projectId AND p.deletedAt IS NULL")
+    List<RoleEnum> findRolesByUserIdAndProjectId(@Param("userId") Long userId, @Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM UserProject up WHERE up.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+
 }
@@ -2,6 +2,9 @@ package org.example.server.repository;
 
 import org.example.server.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,15 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    /**
+     * Lit la génération de tokens directement en base : l'entité User est dans le cache de second
+     * niveau, propre à chaque nœud, qui ne verrait pas une révocation faite sur une autre instance.
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId AND u.email = :email")
+    Optional<Integer> findTokenVersionByIdAndEmail(@Param("userId") Long userId, @Param("email") String email);
+
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+
 }
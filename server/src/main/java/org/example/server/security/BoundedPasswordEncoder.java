@@ -0,0 +1,110 @@
+package org.example.server.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.server.exception.PasswordHashingUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt exécuté sur un pool dédié de taille fixe : une rafale de connexions
+ * ne peut pas occuper plus de threads CPU que le pool n'en compte, et les
+ * demandes au-delà de la file d'attente sont refusées immédiatement. Une demande
+ * acceptée n'est pas attendue plus de timeoutMillis : passé ce délai, elle est
+ * annulée et refusée de la même façon.
+ */
+public class BoundedPasswordEncoder extends BCryptPasswordEncoder implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter saturatedCounter;
+    private final Counter timeoutCounter;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(int poolSize, int queueCapacity, long timeoutMillis, MeterRegistry meterRegistry) {
+        this(new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("password-hashing-"),
+                        new ThreadPoolExecutor.AbortPolicy()),
+                timeoutMillis, meterRegistry);
+    }
+
+    BoundedPasswordEncoder(ThreadPoolExecutor executor, long timeoutMillis, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+
+        this.encodeTimer = Timer.builder("password.hashing")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.saturatedCounter = Counter.builder("password.hashing.rejected")
+                .tag("reason", "saturated")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hashing.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> super.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.recordCallable(() -> super.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            saturatedCounter.increment();
+            throw new PasswordHashingUnavailableException("Serveur momentanément surchargé, veuillez réessayer", ex);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            // Annulée et retirée de la file : sa place est rendue tout de suite.
+            future.cancel(true);
+            executor.purge();
+            timeoutCounter.increment();
+            throw new PasswordHashingUnavailableException("Serveur momentanément surchargé, veuillez réessayer", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException("Traitement du mot de passe interrompu", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -2,8 +2,10 @@ package org.example.server.security;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
 @EnableJpaAuditing(auditorAwareRef = "auditorAwareImpl")
+@EnableTransactionManagement(proxyTargetClass = true, order = 0)
 public class JpaConfig {
-}
\ No newline at end of file
+}
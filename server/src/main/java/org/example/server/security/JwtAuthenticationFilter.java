@@ -4,7 +4,6 @@ import jakarta.servlet.ServletException;
 import org.example.server.exception.AuthorizationHeaderMissingException;
 import org.example.server.exception.TokenExpiredException;
 import org.example.server.exception.TokenInvalidException;
-import org.example.server.exception.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.jsonwebtoken.Claims;
@@ -13,16 +12,12 @@ import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.example.server.model.User;
-import org.example.server.repository.UserRepository;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -30,11 +25,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtTokenUtil jwtTokenUtil;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserPrincipalCache userPrincipalCache) {
         this.jwtTokenUtil = jwtTokenUtil;
-        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @Override
@@ -72,26 +67,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 String token = authorizationHeader.substring(7);
 
-                if (jwtTokenUtil.isTokenValid(token)) {
-                    Claims claims = jwtTokenUtil.validateToken(token);
-                    String email = claims.getSubject();
-                    log.info("JWT valid, user: {}", email);
-
-                    User user = userRepository.findByEmail(email)
-                            .orElseThrow(() -> new UserNotFoundException("Utilisateur non trouvé"));
-
-                    UserDetails userDetails = org.springframework.security.core.userdetails.User
-                            .withUsername(user.getEmail())
-                            .password(user.getPassword())
-                            .authorities(Collections.emptyList())
-                            .build();
-
-                    JwtAuthenticationToken authentication = new JwtAuthenticationToken(userDetails, true);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                } else {
-                    log.warn("Token non valide");
-                    throw new TokenInvalidException("Token non valide");
-                }
+                Claims claims = jwtTokenUtil.validateActiveToken(token);
+                String email = claims.getSubject();
+                log.info("JWT valid, user: {}", email);
+
+                Integer tokenVersion = claims.get("tokenVersion", Integer.class);
+                AuthenticatedUser principal = userPrincipalCache.resolve(
+                        claims.get("userId", Long.class), email, tokenVersion != null ? tokenVersion : 0);
+
+                JwtAuthenticationToken authentication = new JwtAuthenticationToken(principal, true);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
                 log.warn("Authorization header est manquante ou mal formée : {}", request.getRequestURI());
                 throw new AuthorizationHeaderMissingException("Authorization header est manquante ou mal formée");
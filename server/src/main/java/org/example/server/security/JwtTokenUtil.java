@@ -3,12 +3,12 @@ package org.example.server.security;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.example.server.exception.TokenExpiredException;
 import org.example.server.exception.TokenInvalidException;
-import org.example.server.repository.TokenBlacklistRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,25 +24,33 @@ public class JwtTokenUtil {
     private static final Logger log = LoggerFactory.getLogger(JwtTokenUtil.class);
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long expirationTime;
-    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenBlacklistIndex tokenBlacklistIndex;
+    private final VerifiedClaimsCache verifiedClaimsCache;
 
     public JwtTokenUtil(@Value("${jwt.secret}") String secret,
                         @Value("${jwt.expiration}") long expirationTime,
-                        TokenBlacklistRepository tokenBlacklistRepository) {
+                        TokenBlacklistIndex tokenBlacklistIndex,
+                        VerifiedClaimsCache verifiedClaimsCache) {
         if (secret == null || secret.length() < 32) {
             throw new IllegalArgumentException("Le secret JWT doit comporter au moins 32 caractères");
         }
         this.secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.expirationTime = expirationTime;
-        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.tokenBlacklistIndex = tokenBlacklistIndex;
+        this.verifiedClaimsCache = verifiedClaimsCache;
     }
 
-    public String generateToken(String email, Long id) {
+    public String generateToken(String email, Long id, int tokenVersion) {
         log.info("Génération du token pour user: {}, id: {}", email, id);
         return Jwts.builder()
                 .setSubject(email)
                 .claim("userId", id)
+                .claim("tokenVersion", tokenVersion)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
                 .signWith(secretKey, SignatureAlgorithm.HS512)
@@ -50,13 +58,17 @@ public class JwtTokenUtil {
     }
 
     public Claims validateToken(String token) throws TokenInvalidException, TokenExpiredException {
+        String digest = TokenHashUtil.sha256(token);
+        Claims cachedClaims = verifiedClaimsCache.get(digest);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+
         try {
             log.info("Validation du token en cours");
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedClaimsCache.put(digest, claims);
+            return claims;
         } catch (ExpiredJwtException ex) {
             log.warn("Token expiré", ex);
             throw new TokenExpiredException("Token expiré", ex);
@@ -66,11 +78,15 @@ public class JwtTokenUtil {
         }
     }
 
+    public Claims validateActiveToken(String token) throws TokenInvalidException, TokenExpiredException {
+        checkNotBlacklisted(token);
+        Claims claims = validateToken(token);
+        log.info("Token valide");
+        return claims;
+    }
+
     public boolean isTokenValid(String token) {
-        if (tokenBlacklistRepository.existsByToken(token)) {
-            log.warn("Token blacklisté");
-            throw new TokenInvalidException("Token blacklisté");
-        }
+        checkNotBlacklisted(token);
 
         try {
             validateToken(token);
@@ -80,4 +96,11 @@ public class JwtTokenUtil {
             return false;
         }
     }
+
+    private void checkNotBlacklisted(String token) {
+        if (tokenBlacklistIndex.isRevoked(token)) {
+            log.warn("Token blacklisté");
+            throw new TokenInvalidException("Token blacklisté");
+        }
+    }
 }
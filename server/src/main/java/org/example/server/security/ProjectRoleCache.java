@@ -0,0 +1,92 @@
+package org.example.server.security;
+
+import org.example.server.model.RoleEnum;
+import org.example.server.repository.UserProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rôles d'un utilisateur dans un projet, chargés par une requête indexée sur
+ * user_project(user_id, project_id) et conservés en mémoire pour une durée
+ * bornée. Un ensemble vide signifie que l'utilisateur n'est pas membre.
+ */
+@Component
+public class ProjectRoleCache {
+
+    private record Membership(Long userId, Long projectId) {
+    }
+
+    private record CachedRoles(Set<RoleEnum> roles, long loadedAt) {
+    }
+
+    private final UserProjectRepository userProjectRepository;
+    private final long ttl;
+    private final int maxSize;
+    private final Map<Membership, CachedRoles> rolesByMembership = new ConcurrentHashMap<>();
+
+    public ProjectRoleCache(UserProjectRepository userProjectRepository,
+                            @Value("${security.project-role-cache.ttl:60000}") long ttl,
+                            @Value("${security.project-role-cache.max-size:50000}") int maxSize) {
+        this.userProjectRepository = userProjectRepository;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+    }
+
+    public Set<RoleEnum> getRoles(Long userId, Long projectId) {
+        Membership membership = new Membership(userId, projectId);
+        CachedRoles cached = rolesByMembership.get(membership);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < ttl) {
+            return cached.roles();
+        }
+
+        List<RoleEnum> roles = userProjectRepository.findRolesByUserIdAndProjectId(userId, projectId);
+        Set<RoleEnum> loaded = roles.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(roles));
+        store(membership, new CachedRoles(loaded, System.currentTimeMillis()));
+        return loaded;
+    }
+
+    public void invalidate(Long userId, Long projectId) {
+        Membership membership = new Membership(userId, projectId);
+        runNowAndAfterCommit(() -> rolesByMembership.remove(membership));
+    }
+
+    public void invalidateProject(Long projectId) {
+        runNowAndAfterCommit(() -> rolesByMembership.keySet()
+                .removeIf(membership -> membership.projectId().equals(projectId)));
+    }
+
+    private void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private void store(Membership membership, CachedRoles cached) {
+        if (rolesByMembership.size() >= maxSize) {
+            Iterator<Membership> iterator = rolesByMembership.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        rolesByMembership.put(membership, cached);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.server.security;
 
-import org.example.server.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,17 +26,21 @@ public class SecurityConfig {
 
 
     private final JwtTokenUtil jwtTokenUtil;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public SecurityConfig(JwtTokenUtil jwtTokenUtil, UserRepository userRepository) {
+    public SecurityConfig(JwtTokenUtil jwtTokenUtil, UserPrincipalCache userPrincipalCache) {
         this.jwtTokenUtil = jwtTokenUtil;
-        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${security.password-hashing.timeout:10000}") long timeoutMillis,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(poolSize, queueCapacity, timeoutMillis, meterRegistry);
     }
 
 
@@ -89,6 +94,6 @@ public class SecurityConfig {
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         log.info("Création du JwtAuthenticationFilter bean");
 
-        return new JwtAuthenticationFilter(jwtTokenUtil, userRepository);
+        return new JwtAuthenticationFilter(jwtTokenUtil, userPrincipalCache);
     }
 }
\ No newline at end of file
@@ -25,4 +25,14 @@ public class SecurityUtil {
             throw new UnauthorizedProjectAccessException("Utilisateur non authentifié ou principal invalide.");
         }
     }
+
+    public Long getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getId();
+        } else {
+            log.error("Utilisateur non authentifié ou principal invalide : {}", principal);
+            throw new UnauthorizedProjectAccessException("Utilisateur non authentifié ou principal invalide.");
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package org.example.server.security;
+
+import org.example.server.model.TokenBlacklist;
+import org.example.server.repository.TokenBlacklistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index mémoire des tokens révoqués (empreinte SHA-256 -> date d'expiration).
+ * La table token_blacklist ne sert qu'à le recharger : aucune requête n'est
+ * faite sur elle lors de la validation d'un token.
+ */
+@Component
+public class TokenBlacklistIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistIndex.class);
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    public TokenBlacklistIndex(TokenBlacklistRepository tokenBlacklistRepository) {
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * Reporte dans l'index les entrées non expirées de la base (déconnexions faites
+     * sur une autre instance), puis en retire les entrées expirées. L'index n'est
+     * jamais remplacé : une déconnexion ajoutée pendant le rechargement, absente de
+     * la lecture en base, y reste.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.refresh-interval:60000}",
+            initialDelayString = "${jwt.blacklist.refresh-interval:60000}")
+    public void refresh() {
+        List<TokenBlacklist> entries = tokenBlacklistRepository.findAllByExpiryDateAfter(new Date());
+        for (TokenBlacklist entry : entries) {
+            revokedTokens.merge(entry.getTokenHash(), entry.getExpiryDate().getTime(), Math::max);
+        }
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiry -> expiry <= now);
+        log.info("Index des tokens blacklistés rechargé : {} entrée(s) en base, {} dans l'index",
+                entries.size(), revokedTokens.size());
+    }
+
+    public void add(String token, Date expiryDate) {
+        if (expiryDate.getTime() > System.currentTimeMillis()) {
+            revokedTokens.put(TokenHashUtil.sha256(token), expiryDate.getTime());
+        }
+    }
+
+    public boolean isRevoked(String token) {
+        String digest = TokenHashUtil.sha256(token);
+        Long expiry = revokedTokens.get(digest);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry <= System.currentTimeMillis()) {
+            revokedTokens.remove(digest, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+}
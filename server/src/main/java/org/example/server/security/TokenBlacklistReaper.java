@@ -0,0 +1,58 @@
+package org.example.server.security;
+
+import org.example.server.repository.TokenBlacklistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Purge les entrées expirées de token_blacklist par lots bornés, une
+ * transaction courte par lot. La suppression ne porte que sur des lignes
+ * expirées et est idempotente : plusieurs instances peuvent l'exécuter en
+ * même temps sans verrou applicatif.
+ */
+@Component
+public class TokenBlacklistReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistReaper.class);
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TokenBlacklistReaper(TokenBlacklistRepository tokenBlacklistRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${jwt.blacklist.reaper-batch-size:500}") int batchSize) {
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.reaper-interval:3600000}",
+            initialDelayString = "${jwt.blacklist.reaper-interval:3600000}")
+    public void purgeExpiredTokens() {
+        Date now = new Date();
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<String> expired = tokenBlacklistRepository.findExpiredTokenHashes(now, PageRequest.of(0, batchSize));
+                return expired.isEmpty() ? 0 : tokenBlacklistRepository.deleteExpired(expired, now);
+            });
+            total += deleted;
+        } while (deleted >= batchSize);
+
+        if (total > 0) {
+            log.info("Purge de token_blacklist : {} entrée(s) expirée(s) supprimée(s)", total);
+        }
+    }
+}
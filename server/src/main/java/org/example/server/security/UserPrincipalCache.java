@@ -0,0 +1,99 @@
+package org.example.server.security;
+
+import org.example.server.exception.TokenInvalidException;
+import org.example.server.exception.UserNotFoundException;
+import org.example.server.model.User;
+import org.example.server.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Résout le principal à partir des claims du token. L'utilisateur n'est relu
+ * en base qu'à l'expiration du TTL ou après une modification de son compte.
+ * Le cache conserve aussi la génération de tokens courante de chaque
+ * utilisateur : un token émis avec une génération antérieure est révoqué.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private record CachedPrincipal(AuthenticatedUser principal, int tokenVersion, long loadedAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final long ttl;
+    private final int maxSize;
+    private final Map<Long, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${security.principal-cache.ttl:300000}") long ttl,
+                              @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+    }
+
+    public AuthenticatedUser resolve(Long userId, String email, int tokenVersion) {
+        if (userId == null) {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UserNotFoundException("Utilisateur non trouvé"));
+            checkTokenVersion(tokenVersion, user.getTokenVersion());
+            return new AuthenticatedUser(user.getId(), user.getEmail());
+        }
+
+        CachedPrincipal cached = principals.get(userId);
+        if (cached == null || System.currentTimeMillis() - cached.loadedAt() >= ttl
+                || !Objects.equals(cached.principal().getUsername(), email)) {
+            int currentTokenVersion = userRepository.findTokenVersionByIdAndEmail(userId, email)
+                    .orElseThrow(() -> new UserNotFoundException("Utilisateur non trouvé"));
+            cached = new CachedPrincipal(new AuthenticatedUser(userId, email),
+                    currentTokenVersion, System.currentTimeMillis());
+            store(userId, cached);
+        }
+
+        checkTokenVersion(tokenVersion, cached.tokenVersion());
+        return cached.principal();
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            principals.remove(userId);
+        }
+    }
+
+    public void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void checkTokenVersion(int tokenVersion, int currentTokenVersion) {
+        if (tokenVersion < currentTokenVersion) {
+            throw new TokenInvalidException("Token révoqué");
+        }
+    }
+
+    private void store(Long userId, CachedPrincipal cached) {
+        if (principals.size() >= maxSize) {
+            Iterator<Long> iterator = principals.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        principals.put(userId, cached);
+    }
+}
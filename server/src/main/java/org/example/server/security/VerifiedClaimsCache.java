@@ -0,0 +1,88 @@
+package org.example.server.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache borné des claims déjà vérifiés, indexé par l'empreinte du token.
+ * Une entrée n'est jamais servie au-delà de la date d'expiration du token.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final Map<String, Claims> claimsByDigest = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VerifiedClaimsCache(@Value("${jwt.claims-cache.max-size:10000}") int maxSize,
+                               MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        FunctionCounter.builder("jwt.claims.cache", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.claims.cache", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", claimsByDigest, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Claims get(String digest) {
+        Claims claims = claimsByDigest.get(digest);
+        if (claims == null || isExpired(claims)) {
+            if (claims != null) {
+                claimsByDigest.remove(digest, claims);
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return claims;
+    }
+
+    public void put(String digest, Claims claims) {
+        if (maxSize <= 0 || isExpired(claims)) {
+            return;
+        }
+        if (claimsByDigest.size() >= maxSize) {
+            Iterator<String> iterator = claimsByDigest.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        claimsByDigest.put(digest, claims);
+    }
+
+    public void evict(String digest) {
+        claimsByDigest.remove(digest);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.claims-cache.purge-interval:60000}")
+    public void purgeExpired() {
+        claimsByDigest.values().removeIf(this::isExpired);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+}
@@ -1,13 +1,15 @@
 package org.example.server.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.example.server.dto.request.BoardColumnDtoRequest;
 import org.example.server.dto.response.BoardColumnDtoResponse;
-import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.BoardDeltaDtoResponse;
 
 public interface BoardColumnService {
 
-    BoardColumnDtoResponse createBoardColumn(Long projectId, BoardColumnDtoRequest boardColumnDtoRequest);
+    BoardDeltaDtoResponse createBoardColumn(Long projectId, BoardColumnDtoRequest boardColumnDtoRequest);
     BoardColumnDtoResponse getBoardColumn(Long projectId, Long columnId);
     BoardColumnDtoResponse updateBoardColumn(Long projectId, Long columnId, BoardColumnDtoRequest boardColumnDtoRequest);
-    ProjectDtoResponse deleteBoardColumn(Long projectId, Long columnId);
+    BoardColumnDtoResponse patchBoardColumn(Long projectId, Long columnId, JsonNode patch);
+    BoardDeltaDtoResponse deleteBoardColumn(Long projectId, Long columnId);
 }
@@ -8,4 +8,6 @@ public interface LoginService {
 
     Boolean logout(String token);
 
+    Boolean logoutAllSessions(String token);
+
 }
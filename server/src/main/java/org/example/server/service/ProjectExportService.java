@@ -0,0 +1,7 @@
+package org.example.server.service;
+
+import java.io.OutputStream;
+
+public interface ProjectExportService {
+    void exportProject(Long projectId, OutputStream out);
+}
@@ -1,8 +1,11 @@
 package org.example.server.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.example.server.dto.request.ProjectDtoRequest;
 import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.ProjectSummaryDtoResponse;
 import org.example.server.model.RoleEnum;
+import org.springframework.data.domain.Page;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.List;
@@ -10,10 +13,12 @@ import java.util.List;
 public interface ProjectService {
     ProjectDtoResponse createProject(ProjectDtoRequest request, UserDetails currentUser);
     ProjectDtoResponse updateProject(Long projectId, ProjectDtoRequest request);
+    ProjectDtoResponse patchProject(Long projectId, JsonNode patch);
     void deleteProject(Long projectId);
     void addUserToProject(Long projectId, String userEmail, RoleEnum role);
     void assignRoleToUserInProject(Long projectId, String userEmail, RoleEnum role);
     ProjectDtoResponse getProjectById(Long projectId);
     List<ProjectDtoResponse> getProjectsByUserId(Long userId);
+    Page<ProjectSummaryDtoResponse> getProjectSummariesByUserId(Long userId, int page, int size);
 }
 
@@ -0,0 +1,10 @@
+package org.example.server.service;
+
+import org.example.server.dto.response.TaskImportReportDtoResponse;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+
+    TaskImportReportDtoResponse importTasks(Long projectId, Long boardColumnId, InputStream ndjson);
+}
@@ -1,7 +1,12 @@
 package org.example.server.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.server.dto.request.TaskBatchDtoRequest;
 import org.example.server.dto.request.TaskDtoRequest;
+import org.example.server.dto.request.TaskReorderDtoRequest;
+import org.example.server.dto.response.TaskBatchDtoResponse;
 import org.example.server.dto.response.TaskDtoResponse;
+import org.example.server.dto.response.TaskPageDtoResponse;
 import org.example.server.dto.response.TaskSimplifiedDtoResponse;
 import org.example.server.model.Task;
 
@@ -11,8 +16,12 @@ public interface TaskService {
 
     TaskDtoResponse createTask(Long projectId, Long boardColumnId, TaskDtoRequest request);
     TaskDtoResponse updateTask(Long projectId, Long taskId, TaskDtoRequest request);
+    TaskDtoResponse patchTask(Long projectId, Long taskId, JsonNode patch);
     void deleteTask(Long projectId, Long taskId);
     List<TaskSimplifiedDtoResponse> getTasksByBoardColumnId(Long projectId, Long boardColumnId);
+    TaskPageDtoResponse getTaskPage(Long projectId, Long boardColumnId, String cursor, int size);
     TaskDtoResponse getTaskById(Long projectId, Long taskId);
-    TaskDtoResponse moveTaskToColumn(Long projectId, Long taskId, Long columnId);
+    TaskDtoResponse moveTaskToColumn(Long projectId, Long taskId, Long columnId, Long expectedVersion);
+    TaskDtoResponse reorderTask(Long projectId, Long boardColumnId, Long taskId, TaskReorderDtoRequest request);
+    TaskBatchDtoResponse applyBatch(Long projectId, TaskBatchDtoRequest request);
 }
@@ -1,26 +1,35 @@
 package org.example.server.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
 import org.example.server.aspect.CheckProjectAuthorization;
 import org.example.server.dto.request.BoardColumnDtoRequest;
 import org.example.server.dto.response.BoardColumnDtoResponse;
-import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.BoardDeltaDtoResponse;
 import org.example.server.exception.BoardColumnNotFoundException;
 import org.example.server.exception.ProjectNotFoundException;
+import org.example.server.exception.VersionConflictException;
 import org.example.server.mapper.BoardColumnMapper;
-import org.example.server.mapper.ProjectMapper;
 import org.example.server.model.BoardColumn;
 import org.example.server.model.Project;
 import org.example.server.model.RoleEnum;
 import org.example.server.repository.BoardColumnRepository;
 import org.example.server.repository.ProjectRepository;
+import org.example.server.repository.TaskRepository;
 import org.example.server.service.BoardColumnService;
+import org.example.server.util.MergePatch;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -28,18 +37,18 @@ public class BoardColumnServiceImpl implements BoardColumnService {
 
     private final BoardColumnRepository boardColumnRepository;
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final BoardColumnMapper boardColumnMapper;
-    private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
     @Transactional
-    public BoardColumnDtoResponse createBoardColumn(Long projectId, BoardColumnDtoRequest requestDTO) {
+    public BoardDeltaDtoResponse createBoardColumn(Long projectId, BoardColumnDtoRequest requestDTO) {
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projet non trouvé avec l'id : " + projectId));
-
-        if (project.getColumns().size() >= 4) {
+        Project project = lockBoard(projectId);
+        if (boardColumnRepository.countByProjectId(projectId) >= 4) {
             throw new IllegalArgumentException("Impossible d'ajouter plus de 4 colonnes.");
         }
 
@@ -49,8 +58,10 @@ public class BoardColumnServiceImpl implements BoardColumnService {
                 .build();
 
         BoardColumn savedColumn = boardColumnRepository.save(boardColumn);
+        project.setBoardVersion(project.getBoardVersion() + 1);
 
-        return boardColumnMapper.toResponseDTO(savedColumn);
+        return new BoardDeltaDtoResponse(null, List.of(), project.getBoardVersion(),
+                boardColumnMapper.toResponseDTO(savedColumn));
     }
 
     @Override
@@ -71,19 +82,19 @@ public class BoardColumnServiceImpl implements BoardColumnService {
         BoardColumn column = boardColumnRepository.findById(columnId)
                 .orElseThrow(() -> new BoardColumnNotFoundException("Column board non trouvée avec l'id : " + columnId));
 
+        if (requestDTO.getVersion() != null && !requestDTO.getVersion().equals(column.getVersion())) {
+            throw conflict(column);
+        }
+
         if (!Objects.equals(column.getProject().getId(), projectId)) {
-            Project newProject = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new ProjectNotFoundException("Projet non trouvé avec l'id : " + projectId));
-            column.setProject(newProject);
+            column.setProject(projectRepository.getReferenceById(projectId));
         }
 
         if (requestDTO.getName() != null) {
             column.setName(requestDTO.getName());
         }
 
-        BoardColumn updatedColumn = boardColumnRepository.save(column);
-
-        return boardColumnMapper.toResponseDTO(updatedColumn);
+        return saveAndFlush(column);
     }
 
 
@@ -91,21 +102,83 @@ public class BoardColumnServiceImpl implements BoardColumnService {
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
     @Transactional
-    public ProjectDtoResponse deleteBoardColumn(Long projectId, Long columnId) {
+    public BoardColumnDtoResponse patchBoardColumn(Long projectId, Long columnId, JsonNode patch) {
+
+        BoardColumn column = boardColumnRepository.findById(columnId)
+                .filter(found -> Objects.equals(found.getProject().getId(), projectId))
+                .orElseThrow(() -> new BoardColumnNotFoundException("Column board non trouvée avec l'id : " + columnId));
+
+        BoardColumnDtoRequest current = new BoardColumnDtoRequest();
+        current.setName(column.getName());
+        BoardColumnDtoRequest merged = MergePatch.apply(objectMapper, current, patch);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (merged.getName() == null || merged.getName().isBlank()) {
+            errors.put("name", "Le nom de la colonne ne peut pas être vide.");
+        } else if (merged.getName().length() > 50) {
+            errors.put("name", "Le nom ne doit pas excédé 50 caractères");
+        }
+        MergePatch.rejectInvalidFields(patch, errors);
+
+        if (merged.getVersion() != null && !merged.getVersion().equals(column.getVersion())) {
+            throw conflict(column);
+        }
+
+        column.setName(merged.getName());
+
+        return saveAndFlush(column);
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
+    @Transactional
+    public BoardDeltaDtoResponse deleteBoardColumn(Long projectId, Long columnId) {
 
-        Optional<BoardColumn> optionalColumn = boardColumnRepository.findById(columnId);
-        if (optionalColumn.isEmpty()) {
+        Project project = lockBoard(projectId);
+        if (!boardColumnRepository.existsByIdAndProjectId(columnId, projectId)) {
             throw new BoardColumnNotFoundException("Column board non trouvée avec l'id : " + columnId);
         }
 
-        boardColumnRepository.deleteById(columnId);
+        // Suppressions ensemblistes : ni la colonne ni ses tâches ne sont chargées, et Hibernate
+        // évince les régions de cache de Task et BoardColumn touchées.
+        taskRepository.deleteAllByBoardColumnId(columnId);
+        boardColumnRepository.deleteByIdAndProjectId(columnId, projectId);
+        project.setBoardVersion(project.getBoardVersion() + 1);
 
-        boardColumnRepository.flush();
+        // Les tâches disparaissent avec la colonne : aucune autre colonne n'est modifiée.
+        return new BoardDeltaDtoResponse(columnId, List.of(), project.getBoardVersion(), null);
+    }
 
-        Project projectFound = projectRepository.findByIdWithColumns(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé"));
+    /**
+     * Flush immédiat pour que la réponse porte la nouvelle version. Une course perdue au flush
+     * annule la transaction courante : la colonne n'est relue, en lecture seule, qu'à la
+     * construction du 409.
+     */
+    private BoardColumnDtoResponse saveAndFlush(BoardColumn column) {
+        try {
+            return boardColumnMapper.toResponseDTO(boardColumnRepository.saveAndFlush(column));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            Long columnId = column.getId();
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            throw VersionConflictException.lostRace(
+                    "La colonne " + columnId + " a été modifiée par un autre utilisateur",
+                    () -> readOnly.execute(status -> boardColumnRepository.findById(columnId)
+                            .map(boardColumnMapper::toResponseDTO)
+                            .orElse(null)));
+        }
+    }
 
-        return projectMapper.projectToProjectDtoResponse(projectFound);
+    private VersionConflictException conflict(BoardColumn current) {
+        return new VersionConflictException(
+                "La colonne " + current.getId() + " a été modifiée par un autre utilisateur (version "
+                        + current.getVersion() + ")",
+                boardColumnMapper.toResponseDTO(current));
+    }
+
+    private Project lockBoard(Long projectId) {
+        return projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé"));
     }
 
 }
@@ -5,20 +5,22 @@ import lombok.RequiredArgsConstructor;
 import org.example.server.dto.request.LoginDtoRequest;
 import org.example.server.dto.response.LoginDtoResponse;
 import org.example.server.exception.InvalidCredentialsException;
-import org.example.server.mapper.ProjectMapper;
-import org.example.server.mapper.SharedMapper;
-import org.example.server.mapper.UserProjectMapper;
 import org.example.server.model.TokenBlacklist;
 import org.example.server.model.User;
+import org.example.server.repository.ProjectRepository;
 import org.example.server.repository.TokenBlacklistRepository;
+import org.example.server.repository.UserProjectRepository;
 import org.example.server.repository.UserRepository;
 import org.example.server.service.LoginService;
 import org.example.server.security.JwtTokenUtil;
+import org.example.server.security.TokenBlacklistIndex;
+import org.example.server.security.TokenHashUtil;
+import org.example.server.security.UserPrincipalCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +30,10 @@ public class LoginServiceImpl implements LoginService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtTokenUtil jwtTokenUtil;
     private final TokenBlacklistRepository tokenBlacklistRepository;
-    private final UserProjectMapper userProjectMapper;
-    private final ProjectMapper projectMapper;
-    private final SharedMapper sharedMapper;
+    private final TokenBlacklistIndex tokenBlacklistIndex;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ProjectRepository projectRepository;
+    private final UserProjectRepository userProjectRepository;
 
 
     @Override
@@ -52,19 +55,10 @@ public class LoginServiceImpl implements LoginService {
         response.setCreatedDate(user.getCreatedDate());
         response.setUpdatedDate(user.getUpdatedDate());
 
-        if (user.getCreatedProjects() != null) {
-            response.setCreatedProjects(user.getCreatedProjects().stream()
-                    .map(sharedMapper::projectToCreatedProjectsDtoResponse)
-                    .collect(Collectors.toList()));
-        }
-
-        if (user.getUserProjects() != null) {
-            response.setUserProjects(user.getUserProjects().stream()
-                    .map(userProjectMapper::mapUserProjectToUserProjectDtoResponse)
-                    .collect(Collectors.toList()));
-        }
+        response.setCreatedProjects(projectRepository.findCreatedProjectsByUserId(user.getId()));
+        response.setUserProjects(userProjectRepository.findUserProjectsByUserId(user.getId()));
 
-        response.setToken(jwtTokenUtil.generateToken(user.getEmail(), user.getId()));
+        response.setToken(jwtTokenUtil.generateToken(user.getEmail(), user.getId(), user.getTokenVersion()));
 
         return response;
     }
@@ -75,10 +69,25 @@ public class LoginServiceImpl implements LoginService {
         Date expiration = claims.getExpiration();
 
         TokenBlacklist blacklist = new TokenBlacklist();
-        blacklist.setToken(token);
+        blacklist.setTokenHash(TokenHashUtil.sha256(token));
         blacklist.setExpiryDate(expiration);
 
         tokenBlacklistRepository.save(blacklist);
+        tokenBlacklistIndex.add(token, expiration);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public Boolean logoutAllSessions(String token) {
+        Claims claims = jwtTokenUtil.validateToken(token);
+        Long userId = claims.get("userId", Long.class);
+
+        if (userId == null || userRepository.incrementTokenVersion(userId) == 0) {
+            throw new InvalidCredentialsException("Utilisateur non trouvé pour ce token");
+        }
+
+        userPrincipalCache.evictAfterCommit(userId);
         return true;
     }
 
@@ -0,0 +1,148 @@
+package org.example.server.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.example.server.aspect.CheckProjectAuthorization;
+import org.example.server.dto.response.BoardColumnExportDtoResponse;
+import org.example.server.dto.response.ProjectExportDtoResponse;
+import org.example.server.dto.response.TaskExportDtoResponse;
+import org.example.server.dto.response.TaskExportRowDtoResponse;
+import org.example.server.dto.response.UserSimplifiedDtoResponse;
+import org.example.server.exception.ProjectNotFoundException;
+import org.example.server.model.RoleEnum;
+import org.example.server.repository.BoardColumnRepository;
+import org.example.server.repository.ProjectRepository;
+import org.example.server.service.ProjectExportService;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export d'un projet au format NDJSON : une ligne pour le projet, une par colonne puis une
+ * par tâche avec ses assignés. Les tâches sont lues par curseur et écrites au fil de l'eau,
+ * sans jamais construire le tableau complet en mémoire.
+ * <p>
+ * Avec MySQL Connector/J, seule une taille de fetch égale à {@code Integer.MIN_VALUE} lit le
+ * résultat ligne par ligne sans {@code useCursorFetch} ; elle est donc posée sur cette seule
+ * requête plutôt que sur tout le pool. H2 refusant une valeur négative, le profil de test la
+ * remplace par une taille positive.
+ */
+@Service
+public class ProjectExportServiceImpl implements ProjectExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectExportServiceImpl.class);
+
+    private final ProjectRepository projectRepository;
+    private final BoardColumnRepository boardColumnRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final int fetchSize;
+
+    public ProjectExportServiceImpl(ProjectRepository projectRepository,
+                                    BoardColumnRepository boardColumnRepository,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.project-export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.projectRepository = projectRepository;
+        this.boardColumnRepository = boardColumnRepository;
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN, RoleEnum.MEMBER}, isNeedWriteAccess = false)
+    @Transactional(readOnly = true)
+    public void exportProject(Long projectId, OutputStream out) {
+        ProjectExportDtoResponse project = projectRepository.findExportById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé"));
+
+        long taskCount = 0;
+        try {
+            writeLine(out, project);
+            for (BoardColumnExportDtoResponse column : boardColumnRepository.findExportByProjectId(projectId)) {
+                writeLine(out, column);
+            }
+
+            try (Stream<TaskExportRowDtoResponse> rows = streamExportRows(projectId)) {
+                TaskExportDtoResponse current = null;
+                for (Iterator<TaskExportRowDtoResponse> it = rows.iterator(); it.hasNext(); ) {
+                    TaskExportRowDtoResponse row = it.next();
+                    if (current == null || !current.getId().equals(row.getId())) {
+                        if (current != null) {
+                            writeLine(out, current);
+                            taskCount++;
+                        }
+                        current = toTaskExport(row);
+                    }
+                    if (row.getAssigneeId() != null) {
+                        current.getAssignees().add(UserSimplifiedDtoResponse.builder()
+                                .id(row.getAssigneeId())
+                                .firstName(row.getAssigneeFirstName())
+                                .lastName(row.getAssigneeLastName())
+                                .email(row.getAssigneeEmail())
+                                .build());
+                    }
+                }
+                if (current != null) {
+                    writeLine(out, current);
+                    taskCount++;
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture de l'export du projet " + projectId + " interrompue", e);
+        }
+
+        log.info("Export du projet {} : {} tâches écrites", projectId, taskCount);
+    }
+
+    /**
+     * Parcours en avant seulement des tâches du projet, triées par colonne puis par rang
+     * pour que les lignes d'une même tâche soient consécutives.
+     */
+    private Stream<TaskExportRowDtoResponse> streamExportRows(Long projectId) {
+        return entityManager.createQuery("SELECT new org.example.server.dto.response.TaskExportRowDtoResponse(" +
+                        "t.id, c.id, t.rank, t.title, t.detail, t.taskStatus, t.priority, t.dueDate, t.tag, t.tagColor, " +
+                        "u.id, u.firstName, u.lastName, u.email) " +
+                        "FROM Task t JOIN t.boardColumn c LEFT JOIN t.users u " +
+                        "WHERE c.project.id = :projectId ORDER BY c.id, t.rank, t.id", TaskExportRowDtoResponse.class)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        writer.writeValue(out, value);
+        out.write('\n');
+    }
+
+    private static TaskExportDtoResponse toTaskExport(TaskExportRowDtoResponse row) {
+        TaskExportDtoResponse task = new TaskExportDtoResponse();
+        task.setId(row.getId());
+        task.setColumnId(row.getColumnId());
+        task.setRank(row.getRank());
+        task.setTitle(row.getTitle());
+        task.setDetail(row.getDetail());
+        task.setTaskStatus(row.getTaskStatus());
+        task.setPriority(row.getPriority());
+        task.setDueDate(row.getDueDate());
+        task.setTag(row.getTag());
+        task.setTagColor(row.getTagColor());
+        return task;
+    }
+}
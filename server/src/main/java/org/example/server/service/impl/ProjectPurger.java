@@ -0,0 +1,81 @@
+package org.example.server.service.impl;
+
+import org.example.server.repository.BoardColumnRepository;
+import org.example.server.repository.ProjectRepository;
+import org.example.server.repository.TaskRepository;
+import org.example.server.repository.UserProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Purge en arrière-plan les projets supprimés logiquement. Les tâches (et leurs lignes
+ * user_task) sont supprimées par lots d'identifiants, chacun dans sa propre transaction,
+ * pour ne jamais verrouiller les tables du tableau plus de quelques millisecondes. Les
+ * colonnes, les membres puis le projet sont supprimés en dernier.
+ */
+@Component
+public class ProjectPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectPurger.class);
+
+    private final ProjectRepository projectRepository;
+    private final BoardColumnRepository boardColumnRepository;
+    private final TaskRepository taskRepository;
+    private final UserProjectRepository userProjectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ProjectPurger(ProjectRepository projectRepository,
+                         BoardColumnRepository boardColumnRepository,
+                         TaskRepository taskRepository,
+                         UserProjectRepository userProjectRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.project-purge.batch-size:1000}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.boardColumnRepository = boardColumnRepository;
+        this.taskRepository = taskRepository;
+        this.userProjectRepository = userProjectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.project-purge.interval:60000}",
+            initialDelayString = "${app.project-purge.interval:60000}")
+    public void purgeDeletedProjects() {
+        for (Long projectId : projectRepository.findSoftDeletedIds()) {
+            try {
+                purge(projectId);
+            } catch (DataAccessException e) {
+                log.warn("Purge du projet {} reportée : {}", projectId, e.getMessage());
+            }
+        }
+    }
+
+    public void purge(Long projectId) {
+        long tasks = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> taskIds = taskRepository.findIdsByProjectId(projectId, Limit.of(batchSize));
+                return taskIds.isEmpty() ? 0 : taskRepository.deleteAllByIdIn(taskIds);
+            });
+            tasks += deleted;
+        } while (deleted > 0);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            boardColumnRepository.deleteAllByProjectId(projectId);
+            userProjectRepository.deleteAllByProjectId(projectId);
+            projectRepository.purgeSoftDeletedById(projectId);
+        });
+        log.info("Projet {} purgé : {} tâches supprimées", projectId, tasks);
+    }
+}
@@ -1,34 +1,51 @@
 package org.example.server.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.example.server.aspect.CheckProjectAuthorization;
+import org.example.server.aspect.CheckUserAuthorization;
 import org.example.server.dto.request.ProjectDtoRequest;
 import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.ProjectSummaryDtoResponse;
 import org.example.server.exception.*;
 import org.example.server.mapper.ProjectMapper;
 import org.example.server.model.Project;
 import org.example.server.model.RoleEnum;
 import org.example.server.model.User;
 import org.example.server.model.UserProject;
+import org.example.server.repository.BoardColumnRepository;
 import org.example.server.repository.ProjectRepository;
 import org.example.server.repository.UserProjectRepository;
 import org.example.server.repository.UserRepository;
+import org.example.server.security.ProjectRoleCache;
 import org.example.server.service.ProjectService;
+import org.example.server.util.MergePatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProjectRepository projectRepository;
+    private final BoardColumnRepository boardColumnRepository;
     private final UserRepository userRepository;
     private final UserProjectRepository userProjectRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectRoleCache projectRoleCache;
+    private final ObjectMapper objectMapper;
 
 
     @Override
@@ -58,7 +75,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN, RoleEnum.MEMBER}, isNeedWriteAccess = false)
+    @CheckUserAuthorization
     @Transactional(readOnly = true)
     public List<ProjectDtoResponse> getProjectsByUserId(Long userId) {
 
@@ -71,6 +88,14 @@ public class ProjectServiceImpl implements ProjectService {
         return projects.stream().map(projectMapper::projectToProjectDtoResponse).toList();
     }
 
+    @Override
+    @CheckUserAuthorization
+    @Transactional(readOnly = true)
+    public Page<ProjectSummaryDtoResponse> getProjectSummariesByUserId(Long userId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return projectRepository.findProjectSummariesByUserId(userId, pageRequest);
+    }
+
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
     @Transactional
@@ -106,11 +131,57 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
     @Transactional
-    public void deleteProject(Long projectId) {
+    public ProjectDtoResponse patchProject(Long projectId, JsonNode patch) {
+
         Project existingProject = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé"));
 
-        projectRepository.delete(existingProject);
+        ProjectDtoRequest current = new ProjectDtoRequest();
+        current.setName(existingProject.getName());
+        current.setDescription(existingProject.getDescription());
+        current.setStartDate(existingProject.getStartDate());
+        current.setEndDate(existingProject.getEndDate());
+        ProjectDtoRequest merged = MergePatch.apply(objectMapper, current, patch);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (merged.getName() == null || merged.getName().isBlank()) {
+            errors.put("name", "Le nom est requis");
+        } else if (merged.getName().length() > 50) {
+            errors.put("name", "Le nom ne doit pas excédé 50 caractères");
+        }
+        if (merged.getDescription() != null && merged.getDescription().length() > 100) {
+            errors.put("description", "La description ne doit pas excédée 100 caractères");
+        }
+        if (merged.getStartDate() == null) {
+            errors.put("startDate", "La date de début est requise");
+        }
+        if (merged.getEndDate() == null) {
+            errors.put("endDate", "La date de fin est requise");
+        }
+        MergePatch.rejectInvalidFields(patch, errors);
+
+        if ((patch.has("startDate") || patch.has("endDate"))
+                && merged.getEndDate().isBefore(merged.getStartDate())) {
+            throw new InvalidProjectDateException("La date de fin ne peut pas être antérieure à la date de début.");
+        }
+
+        existingProject.setName(merged.getName());
+        existingProject.setDescription(merged.getDescription());
+        existingProject.setStartDate(merged.getStartDate());
+        existingProject.setEndDate(merged.getEndDate());
+
+        return projectMapper.projectToProjectDtoResponse(projectRepository.saveAndFlush(existingProject));
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
+    @Transactional
+    public void deleteProject(Long projectId) {
+        // Marquage immédiat ; colonnes, tâches et membres sont purgés par lots par ProjectPurger.
+        if (projectRepository.softDeleteById(projectId, LocalDateTime.now()) == 0) {
+            throw new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé");
+        }
+        projectRoleCache.invalidateProject(projectId);
     }
 
 
@@ -118,8 +189,7 @@ public class ProjectServiceImpl implements ProjectService {
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
     @Transactional
     public void addUserToProject(Long projectId, String userEmail, RoleEnum role) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projet non trouvé avec ID : " + projectId));
+        Project project = projectRepository.getReferenceById(projectId);
 
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UserNotFoundException("Utilisateur non trouvé avec l'email : " + userEmail));
@@ -135,34 +205,42 @@ public class ProjectServiceImpl implements ProjectService {
                 .userAddAt(LocalDate.now())
                 .build();
 
-            userProjectRepository.save(userProject);
+        userProjectRepository.save(userProject);
+        projectRoleCache.invalidate(user.getId(), projectId);
     }
 
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
     @Transactional
     public void assignRoleToUserInProject(Long projectId, String userEmail, RoleEnum role) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projet non trouvé avec ID : " + projectId));
+        Project project = projectRepository.getReferenceById(projectId);
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UserNotFoundException("Utilisateur non trouvé avec l'email : " + userEmail));
 
-        UserProject userProject = UserProject.builder()
-                .user(user)
-                .project(project)
-                .role(role)
-                .userAddAt(LocalDate.now())
-                .build();
+        UserProject userProject = userProjectRepository.findByUserAndProject(user, project)
+                .orElseGet(() -> UserProject.builder()
+                        .user(user)
+                        .project(project)
+                        .userAddAt(LocalDate.now())
+                        .build());
+        userProject.setRole(role);
 
         userProjectRepository.save(userProject);
+        projectRoleCache.invalidate(user.getId(), projectId);
     }
 
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN, RoleEnum.MEMBER}, isNeedWriteAccess = false)
     @Transactional(readOnly = true)
     public ProjectDtoResponse getProjectById(Long projectId) {
-        Project projectFound =  projectRepository.findByIdWithColumns(projectId)
+        Project projectFound = projectRepository.findBoardById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé"));
+
+        // Les deux requêtes suivantes initialisent les membres puis les tâches des colonnes
+        // de l'entité déjà chargée : le tableau complet est lu en trois requêtes.
+        projectRepository.findWithMembersById(projectId);
+        boardColumnRepository.findAllWithTasksByProjectId(projectId);
+
         return projectMapper.projectToProjectDtoResponse(projectFound);
     }
 }
@@ -0,0 +1,160 @@
+package org.example.server.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.aspect.CheckProjectAuthorization;
+import org.example.server.dto.request.TaskDtoRequest;
+import org.example.server.dto.response.TaskImportErrorDtoResponse;
+import org.example.server.dto.response.TaskImportReportDtoResponse;
+import org.example.server.exception.BoardColumnNotFoundException;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.BoardColumn;
+import org.example.server.model.RoleEnum;
+import org.example.server.model.Task;
+import org.example.server.repository.BoardColumnRepository;
+import org.example.server.repository.TaskRepository;
+import org.example.server.service.TaskImportService;
+import org.example.server.util.RankGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Import de tâches au format NDJSON (un TaskDtoRequest par ligne). Le flux est lu ligne
+ * par ligne, chaque ligne est validée à la volée et les lignes valides sont insérées par
+ * lots, une transaction par lot : un lot en échec n'annule pas les lots déjà importés.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private record ImportRow(long line, TaskDtoRequest request, String rank) {
+    }
+
+    private final BoardColumnRepository boardColumnRepository;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskImportServiceImpl(BoardColumnRepository boardColumnRepository,
+                                 TaskRepository taskRepository,
+                                 TaskMapper taskMapper,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.task-import.batch-size:1000}") int batchSize) {
+        this.boardColumnRepository = boardColumnRepository;
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
+    public TaskImportReportDtoResponse importTasks(Long projectId, Long boardColumnId, InputStream ndjson) {
+
+        if (!boardColumnRepository.existsByIdAndProjectId(boardColumnId, projectId)) {
+            throw new BoardColumnNotFoundException("Colonne non trouvée avec ID : " + boardColumnId);
+        }
+
+        TaskImportReportDtoResponse report = new TaskImportReportDtoResponse();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        // Les tâches importées s'ajoutent en fin de colonne, dans l'ordre du fichier.
+        String rank = taskRepository.findMaxRankByBoardColumnId(boardColumnId).orElse(null);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                TaskDtoRequest request;
+                try {
+                    request = objectMapper.readValue(line, TaskDtoRequest.class);
+                } catch (JsonProcessingException e) {
+                    reject(report, lineNumber, List.of("JSON invalide : " + e.getOriginalMessage()));
+                    continue;
+                }
+
+                request.setBoardColumnId(boardColumnId);
+                List<String> errors = validate(request);
+                if (!errors.isEmpty()) {
+                    reject(report, lineNumber, errors);
+                    continue;
+                }
+
+                rank = RankGenerator.between(rank, null);
+                batch.add(new ImportRow(lineNumber, request, rank));
+                if (batch.size() >= batchSize) {
+                    insertBatch(boardColumnId, batch, report);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture du flux d'import interrompue", e);
+        }
+
+        if (!batch.isEmpty()) {
+            insertBatch(boardColumnId, batch, report);
+        }
+
+        log.info("Import dans la colonne {} : {} tâches importées, {} rejetées",
+                boardColumnId, report.getImported(), report.getRejected());
+        return report;
+    }
+
+    private static List<String> validate(TaskDtoRequest request) {
+        return TaskRequestValidator.validate(request).entrySet().stream()
+                .map(error -> error.getKey() + " : " + error.getValue())
+                .toList();
+    }
+
+    private void insertBatch(Long boardColumnId, List<ImportRow> batch, TaskImportReportDtoResponse report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BoardColumn boardColumn = boardColumnRepository.getReferenceById(boardColumnId);
+                taskRepository.saveAll(batch.stream()
+                        .map(row -> {
+                            Task task = taskMapper.mapTaskDtoRequestToTask(row.request(), boardColumn);
+                            task.setRank(row.rank());
+                            return task;
+                        })
+                        .toList());
+            });
+            report.setImported(report.getImported() + batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Échec de l'insertion d'un lot de {} tâches : {}", batch.size(), e.getMessage());
+            batch.forEach(row -> reject(report, row.line(), List.of("Échec de l'insertion du lot")));
+        }
+    }
+
+    private static void reject(TaskImportReportDtoResponse report, long line, List<String> errors) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new TaskImportErrorDtoResponse(line, errors));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.server.service.impl;
+
+import jakarta.persistence.EntityManager;
+import org.example.server.model.Task;
+import org.example.server.repository.BoardColumnRepository;
+import org.example.server.repository.ProjectRepository;
+import org.example.server.repository.TaskRepository;
+import org.example.server.util.RankGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Rééquilibre en arrière-plan les colonnes dont les rangs sont devenus trop longs à force
+ * d'insertions au même endroit. Les colonnes sont signalées par les déplacements, puis
+ * réécrites à intervalle régulier sur RankGenerator.WIDTH caractères en conservant l'ordre.
+ */
+@Component
+public class TaskRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+
+    private final TaskRepository taskRepository;
+    private final BoardColumnRepository boardColumnRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxLength;
+    private final int batchSize;
+    private final Set<Long> pendingColumns = ConcurrentHashMap.newKeySet();
+
+    public TaskRankRebalancer(TaskRepository taskRepository,
+                              BoardColumnRepository boardColumnRepository,
+                              ProjectRepository projectRepository,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.task-rank.rebalance-length:24}") int maxLength,
+                              @Value("${app.task-rank.rebalance-batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.boardColumnRepository = boardColumnRepository;
+        this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxLength = maxLength;
+        this.batchSize = batchSize;
+    }
+
+    public void requestRebalanceIfNeeded(Long boardColumnId, String rank) {
+        if (rank.length() > maxLength) {
+            requestRebalance(boardColumnId);
+        }
+    }
+
+    public void requestRebalance(Long boardColumnId) {
+        if (pendingColumns.add(boardColumnId)) {
+            log.debug("Rééquilibrage des rangs demandé pour la colonne {}", boardColumnId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.task-rank.rebalance-interval:60000}",
+            initialDelayString = "${app.task-rank.rebalance-interval:60000}")
+    public void rebalancePendingColumns() {
+        for (Long boardColumnId : List.copyOf(pendingColumns)) {
+            pendingColumns.remove(boardColumnId);
+            try {
+                rebalance(boardColumnId);
+            } catch (DataAccessException e) {
+                log.warn("Rééquilibrage de la colonne {} reporté : {}", boardColumnId, e.getMessage());
+                pendingColumns.add(boardColumnId);
+            }
+        }
+    }
+
+    /**
+     * Réécrit tous les rangs de la colonne, uniformément répartis, dans sa propre transaction :
+     * le contexte de persistance de l'appelant n'est pas touché. Le verrou exclusif du tableau
+     * écarte les écritures de rang concurrentes, qui prennent le verrou partagé ; l'appelant ne
+     * doit donc pas le détenir. Les mises à jour partent par lots JDBC.
+     */
+    public void rebalance(Long boardColumnId) {
+        int count = transactionTemplate.execute(status -> {
+            Long projectId = boardColumnRepository.findProjectIdById(boardColumnId).orElse(null);
+            if (projectId == null || projectRepository.findByIdForUpdate(projectId).isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = taskRepository.findIdsByBoardColumnIdOrderByRank(boardColumnId);
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                Map<Long, Task> tasks = taskRepository.findAllById(chunk).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    Task task = tasks.get(chunk.get(i));
+                    if (task != null) {
+                        task.setRank(RankGenerator.spread(from + i, ids.size()));
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            }
+            return ids.size();
+        });
+        log.info("Rangs de la colonne {} rééquilibrés : {} tâches", boardColumnId, count);
+    }
+}
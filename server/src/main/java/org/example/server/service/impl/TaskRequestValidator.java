@@ -0,0 +1,49 @@
+package org.example.server.service.impl;
+
+import org.example.server.dto.request.TaskDtoRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reprend les contraintes de TaskDtoRequest et les colonnes obligatoires de Task, aucun
+ * fournisseur Bean Validation n'étant présent. Les erreurs sont indexées par nom de champ.
+ */
+final class TaskRequestValidator {
+
+    private static final Pattern TAG_COLOR = Pattern.compile("^#(?:[0-9a-fA-F]{3}){1,2}$");
+
+    private TaskRequestValidator() {
+    }
+
+    static Map<String, String> validate(TaskDtoRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            errors.put("title", "ne doit pas être vide");
+        } else if (request.getTitle().length() > 50) {
+            errors.put("title", "Le titre ne doit pas excédé 50 caractères");
+        }
+        if (request.getDetail() != null && request.getDetail().length() > 300) {
+            errors.put("detail", "Le détail ne doit pas excédé 300 caractères");
+        }
+        if (request.getPriority() == null) {
+            errors.put("priority", "ne doit pas être nul");
+        }
+        if (request.getTaskStatus() == null) {
+            errors.put("taskStatus", "ne doit pas être nul");
+        }
+        if (request.getDueDate() == null) {
+            errors.put("dueDate", "ne doit pas être nul");
+        }
+        if (request.getTag() == null || request.getTag().isBlank()) {
+            errors.put("tag", "ne doit pas être vide");
+        } else if (request.getTag().length() > 20) {
+            errors.put("tag", "Le nom du tag ne doit pas excédé 20 caractères");
+        }
+        if (request.getTagColor() == null || !TAG_COLOR.matcher(request.getTagColor()).matches()) {
+            errors.put("tagColor", "La couleur doit être une valeur hexadecimal");
+        }
+        return errors;
+    }
+}
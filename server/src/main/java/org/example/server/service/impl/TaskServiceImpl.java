@@ -1,54 +1,91 @@
 package org.example.server.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import org.example.server.aspect.CheckProjectAuthorization;
+import org.example.server.dto.request.TaskBatchDtoRequest;
 import org.example.server.dto.request.TaskDtoRequest;
+import org.example.server.dto.request.TaskOperationDtoRequest;
+import org.example.server.dto.request.TaskReorderDtoRequest;
+import org.example.server.dto.response.TaskBatchDtoResponse;
 import org.example.server.dto.response.TaskDtoResponse;
+import org.example.server.dto.response.TaskOperationResultDtoResponse;
+import org.example.server.dto.response.TaskPageDtoResponse;
 import org.example.server.dto.response.TaskSimplifiedDtoResponse;
 import org.example.server.exception.BoardColumnNotFoundException;
+import org.example.server.exception.InvalidPageCursorException;
+import org.example.server.exception.InvalidTaskBatchException;
+import org.example.server.exception.InvalidTaskPositionException;
+import org.example.server.exception.ProjectNotFoundException;
 import org.example.server.exception.TaskNotFoundException;
+import org.example.server.exception.VersionConflictException;
 import org.example.server.mapper.TaskMapper;
 import org.example.server.model.BoardColumn;
 import org.example.server.model.RoleEnum;
 import org.example.server.model.Task;
 import org.example.server.repository.BoardColumnRepository;
+import org.example.server.repository.ProjectRepository;
 import org.example.server.repository.TaskRepository;
 import org.example.server.service.TaskService;
+import org.example.server.util.MergePatch;
+import org.example.server.util.RankGenerator;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_OPERATIONS = 500;
+
+    private record TaskCursor(String rank, Long id) {
+    }
+
+    private record Neighbours(String previous, String next) {
+    }
+
     private final BoardColumnRepository boardColumnRepository;
+    private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskRankRebalancer taskRankRebalancer;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
 
 
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public TaskDtoResponse createTask(Long projectId, Long boardColumnId, TaskDtoRequest request) {
 
+        lockRanks(projectId);
+
         BoardColumn boardColumn = boardColumnRepository.findById(boardColumnId)
                 .orElseThrow(() -> new BoardColumnNotFoundException(
                         "Colonne non trouvée avec ID : " + request.getBoardColumnId())
                 );
 
-        Task task = Task.builder()
-                .title(request.getTitle())
-                .detail(request.getDetail())
-                .priority(request.getPriority())
-                .taskStatus(request.getTaskStatus())
-                .dueDate(request.getDueDate())
-                .boardColumn(boardColumn)
-                .tag(request.getTag())
-                .tagColor(request.getTagColor())
-                .build();
-
+        Task task = taskMapper.mapTaskDtoRequestToTask(request, boardColumn);
+        task.setRank(rankAtEnd(boardColumnId));
         Task taskSaved = taskRepository.save(task);
 
         return taskMapper.taskToTaskDtoResponse(taskSaved);
@@ -56,25 +93,82 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public TaskDtoResponse updateTask(Long projectId, Long taskId, TaskDtoRequest request) {
 
-        Task existingTask = taskRepository.findById(taskId)
+        Task existingTask = taskRepository.findByIdAndProjectId(taskId, projectId)
                 .orElseThrow(() -> new TaskNotFoundException("Tâche non trouvée avec ID : " + taskId));
 
-        BoardColumn boardColumn = boardColumnRepository.findById(request.getBoardColumnId())
-                .orElseThrow(() -> new BoardColumnNotFoundException(
-                        "Colonne non trouvée avec ID : " + request.getBoardColumnId())
-                );
+        checkVersion(existingTask, request.getVersion());
+        if (request.getBoardColumnId() != null && !request.getBoardColumnId().equals(existingTask.getBoardColumn().getId())) {
+            lockRanks(projectId);
+        }
+        applyChanges(projectId, existingTask, request, new HashMap<>());
+
+        // Flush immédiat : l'UPDATE versionné s'exécute ici et la réponse porte la nouvelle version.
+        try {
+            return taskMapper.taskToTaskDtoResponse(taskRepository.saveAndFlush(existingTask));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw conflictAfterLostRace(projectId, taskId);
+        }
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public TaskDtoResponse patchTask(Long projectId, Long taskId, JsonNode patch) {
+
+        Task existingTask = taskRepository.findByIdAndProjectId(taskId, projectId)
+                .orElseThrow(() -> new TaskNotFoundException("Tâche non trouvée avec ID : " + taskId));
+
+        TaskDtoRequest merged = MergePatch.apply(objectMapper, taskMapper.taskToTaskDtoRequest(existingTask), patch);
+        Map<String, String> errors = TaskRequestValidator.validate(merged);
+        if (merged.getBoardColumnId() == null) {
+            errors.put("boardColumnId", "ne doit pas être nul");
+        }
+        MergePatch.rejectInvalidFields(patch, errors);
+
+        checkVersion(existingTask, merged.getVersion());
 
-        if (request.getTitle() != null) existingTask.setTitle(request.getTitle());
-        if (request.getDetail() != null) existingTask.setDetail(request.getDetail());
-        if (request.getPriority() != null) existingTask.setPriority(request.getPriority());
-        if (request.getTaskStatus() != null) existingTask.setTaskStatus(request.getTaskStatus());
-        if (request.getDueDate() != null) existingTask.setDueDate(request.getDueDate());
-        if (request.getBoardColumnId() != null) existingTask.setBoardColumn(boardColumn);
-        if (request.getTag() != null) existingTask.setTag(request.getTag());
-        if (request.getTagColor() != null) existingTask.setTagColor(request.getTagColor());
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "title", existingTask.getTitle(), merged.getTitle());
+        putIfChanged(changes, "detail", existingTask.getDetail(), merged.getDetail());
+        putIfChanged(changes, "priority", existingTask.getPriority(), merged.getPriority());
+        putIfChanged(changes, "taskStatus", existingTask.getTaskStatus(), merged.getTaskStatus());
+        putIfChanged(changes, "dueDate", existingTask.getDueDate(), merged.getDueDate());
+        putIfChanged(changes, "tag", existingTask.getTag(), merged.getTag());
+        putIfChanged(changes, "tagColor", existingTask.getTagColor(), merged.getTagColor());
+        // La colonne n'est chargée que si elle change.
+        if (!merged.getBoardColumnId().equals(existingTask.getBoardColumn().getId())) {
+            changes.put("boardColumn", findColumnInProject(projectId, merged.getBoardColumnId()));
+            lockRanks(projectId);
+            changes.put("rank", rankAtEnd(merged.getBoardColumnId()));
+        }
+        if (changes.isEmpty()) {
+            return taskMapper.taskToTaskDtoResponse(existingTask);
+        }
+
+        if (updateChangedFields(existingTask, changes) == 0) {
+            entityManager.refresh(existingTask);
+            throw conflict(existingTask);
+        }
+
+        // L'UPDATE ciblé contourne le contexte de persistance : l'entité détachée reçoit
+        // les nouvelles valeurs pour la réponse, sans nouvelle lecture.
+        entityManager.detach(existingTask);
+        existingTask.setTitle(merged.getTitle());
+        existingTask.setDetail(merged.getDetail());
+        existingTask.setPriority(merged.getPriority());
+        existingTask.setTaskStatus(merged.getTaskStatus());
+        existingTask.setDueDate(merged.getDueDate());
+        existingTask.setTag(merged.getTag());
+        existingTask.setTagColor(merged.getTagColor());
+        if (changes.containsKey("boardColumn")) {
+            existingTask.setBoardColumn((BoardColumn) changes.get("boardColumn"));
+            existingTask.setRank((String) changes.get("rank"));
+        }
+        existingTask.setVersion(existingTask.getVersion() + 1);
+        existingTask.setUpdatedDate(LocalDate.now());
 
         return taskMapper.taskToTaskDtoResponse(existingTask);
     }
@@ -95,14 +189,38 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public List<TaskSimplifiedDtoResponse> getTasksByBoardColumnId(Long projectId, Long boardColumnId) {
 
-        boardColumnRepository.findById(boardColumnId)
-                .orElseThrow(() -> new BoardColumnNotFoundException(
-                        "Colonne non trouvée avec ID : " + boardColumnId)
-                );
+        List<TaskSimplifiedDtoResponse> rows = taskRepository.findTaskSummariesByBoardColumnId(projectId, boardColumnId);
 
-        List<Task> tasks = taskRepository.findTasksByBoardColumnId(boardColumnId);
+        if (rows.isEmpty()) {
+            throw new BoardColumnNotFoundException("Colonne non trouvée avec ID : " + boardColumnId);
+        }
 
-        return taskMapper.toTaskSummaryDTOList(tasks);
+        return rows.stream().filter(row -> row.getId() != null).toList();
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN, RoleEnum.MEMBER}, isNeedWriteAccess = false)
+    @Transactional(readOnly = true)
+    public TaskPageDtoResponse getTaskPage(Long projectId, Long boardColumnId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TaskSimplifiedDtoResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = taskRepository.findFirstTaskPage(projectId, boardColumnId, limit);
+            if (rows.isEmpty() && !boardColumnRepository.existsByIdAndProjectId(boardColumnId, projectId)) {
+                throw new BoardColumnNotFoundException("Colonne non trouvée avec ID : " + boardColumnId);
+            }
+        } else {
+            TaskCursor after = decodeCursor(cursor);
+            rows = taskRepository.findTaskPageAfter(projectId, boardColumnId, after.rank(), after.id(), limit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new TaskPageDtoResponse(rows, null);
+        }
+        List<TaskSimplifiedDtoResponse> page = rows.subList(0, pageSize);
+        return new TaskPageDtoResponse(page, encodeCursor(page.get(pageSize - 1)));
     }
 
     @Override
@@ -117,20 +235,354 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
-    @Transactional
-    public TaskDtoResponse moveTaskToColumn(Long projectId, Long taskId, Long targetColumnId) {
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public TaskDtoResponse moveTaskToColumn(Long projectId, Long taskId, Long targetColumnId, Long expectedVersion) {
+
+        if (!boardColumnRepository.existsByIdAndProjectId(targetColumnId, projectId)) {
+            throw new BoardColumnNotFoundException("Colonne non trouvée avec l'id : " + targetColumnId);
+        }
+        lockRanks(projectId);
+
+        return applyMove(projectId, taskId, targetColumnId, rankAtEnd(targetColumnId), expectedVersion);
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public TaskDtoResponse reorderTask(Long projectId, Long boardColumnId, Long taskId, TaskReorderDtoRequest request) {
+
+        if (!boardColumnRepository.existsByIdAndProjectId(boardColumnId, projectId)) {
+            throw new BoardColumnNotFoundException("Colonne non trouvée avec l'id : " + boardColumnId);
+        }
+        if (taskId.equals(request.getPreviousTaskId()) || taskId.equals(request.getNextTaskId())) {
+            throw new InvalidTaskPositionException("Une tâche ne peut pas être placée à côté d'elle-même");
+        }
+
+        // Rangs égaux ou trop longs : la colonne est rééquilibrée dans sa propre transaction avant
+        // que celle-ci ne prenne le verrou partagé du tableau, que le rééquilibrage attend en exclusif.
+        if (needsRebalance(neighbourRanks(boardColumnId, request.getPreviousTaskId(), request.getNextTaskId()))) {
+            taskRankRebalancer.rebalance(boardColumnId);
+        }
+        lockRanks(projectId);
+        String rank = rankBetween(boardColumnId, request.getPreviousTaskId(), request.getNextTaskId());
+
+        return applyMove(projectId, taskId, boardColumnId, rank, request.getVersion());
+    }
+
+    /**
+     * Une seule ligne écrite par déplacement, quelle que soit la taille de la colonne.
+     */
+    private TaskDtoResponse applyMove(Long projectId, Long taskId, Long boardColumnId, String rank, Long expectedVersion) {
+        int updated = taskRepository.moveIfVersionMatches(
+                projectId, taskId, boardColumnRepository.getReferenceById(boardColumnId), rank, expectedVersion);
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
                 .orElseThrow(() -> new TaskNotFoundException("Tâche non trouvée avec l'id : " + taskId));
 
-        BoardColumn targetColumn = boardColumnRepository.findById(targetColumnId)
-                .orElseThrow(() -> new BoardColumnNotFoundException("Colonne non trouvée avec l'id : " + targetColumnId));
+        if (updated == 0) {
+            throw conflict(task);
+        }
 
-        task.setBoardColumn(targetColumn);
+        taskRankRebalancer.requestRebalanceIfNeeded(boardColumnId, rank);
+        return taskMapper.taskToTaskDtoResponse(task);
+    }
+
+    private String rankAtEnd(Long boardColumnId) {
+        return RankGenerator.between(taskRepository.findMaxRankByBoardColumnId(boardColumnId).orElse(null), null);
+    }
+
+    /**
+     * Verrou partagé du tableau, pris avant de lire les rangs voisins : le rééquilibrage ne peut
+     * pas réécrire la colonne entre cette lecture et l'écriture du rang. Les appelants sont en
+     * READ_COMMITTED pour relire les rangs validés par un rééquilibrage qu'ils ont attendu.
+     */
+    private void lockRanks(Long projectId) {
+        projectRepository.findByIdForShare(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("Projet avec ID " + projectId + " non trouvé"));
+    }
+
+    private static boolean needsRebalance(Neighbours neighbours) {
+        String previous = neighbours.previous();
+        String next = neighbours.next();
+        if (previous == null && next != null) {
+            return !RankGenerator.hasRankBefore(next);
+        }
+        if (previous == null || next == null) {
+            return false;
+        }
+        return previous.equals(next)
+                || previous.compareTo(next) < 0 && RankGenerator.between(previous, next).length() > RankGenerator.MAX_LENGTH;
+    }
+
+    /**
+     * Rang entre deux voisins, à calculer sous le verrou partagé du tableau. Des rangs égaux
+     * (deux insertions simultanées au même endroit) ou une clé trop longue demandent un
+     * rééquilibrage, impossible sous ce verrou : il est planifié et l'opération refusée.
+     */
+    private String rankBetween(Long boardColumnId, Long previousTaskId, Long nextTaskId) {
+        if (previousTaskId == null && nextTaskId == null) {
+            return rankAtEnd(boardColumnId);
+        }
+
+        Neighbours neighbours = neighbourRanks(boardColumnId, previousTaskId, nextTaskId);
+        String previous = neighbours.previous();
+        String next = neighbours.next();
+        if (previous != null && next != null && previous.compareTo(next) > 0) {
+            throw new InvalidTaskPositionException("La tâche " + previousTaskId
+                    + " doit précéder la tâche " + nextTaskId + " dans la colonne");
+        }
+        if (needsRebalance(neighbours)) {
+            taskRankRebalancer.requestRebalance(boardColumnId);
+            throw new InvalidTaskPositionException("Rangs en cours de rééquilibrage dans la colonne "
+                    + boardColumnId + ", veuillez réessayer");
+        }
+        return RankGenerator.between(previous, next);
+    }
+
+    /**
+     * Rangs des deux voisins en une requête ; un voisin absent désigne le début ou la fin de la colonne.
+     */
+    private Neighbours neighbourRanks(Long boardColumnId, Long previousTaskId, Long nextTaskId) {
+        List<Long> taskIds = Stream.of(previousTaskId, nextTaskId).filter(Objects::nonNull).toList();
+        Map<Long, String> ranks = taskIds.isEmpty() ? Map.of() : taskRepository
+                .findSummariesByIdInAndBoardColumnId(taskIds, boardColumnId).stream()
+                .collect(Collectors.toMap(TaskSimplifiedDtoResponse::getId, TaskSimplifiedDtoResponse::getRank));
+        for (Long taskId : taskIds) {
+            if (!ranks.containsKey(taskId)) {
+                throw new TaskNotFoundException("Tâche " + taskId + " non trouvée dans la colonne " + boardColumnId);
+            }
+        }
+        return new Neighbours(ranks.get(previousTaskId), ranks.get(nextTaskId));
+    }
+
+    @Override
+    @CheckProjectAuthorization(roles = {RoleEnum.ADMIN}, isNeedWriteAccess = true)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public TaskBatchDtoResponse applyBatch(Long projectId, TaskBatchDtoRequest request) {
+        List<TaskOperationDtoRequest> operations = request.getOperations() == null ? List.of() : request.getOperations();
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new InvalidTaskBatchException("Un lot ne peut pas dépasser " + MAX_BATCH_OPERATIONS + " opérations");
+        }
+        lockRanks(projectId);
+
+        // Toutes les tâches visées en une requête ; les écritures partent ensemble au flush final.
+        Map<Long, Task> tasks = taskRepository.findAllByIdInAndProjectId(operations.stream()
+                        .map(TaskOperationDtoRequest::getTaskId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()), projectId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskOperationResultDtoResponse> results = new ArrayList<>(operations.size());
+        Map<Integer, Task> applied = new HashMap<>();
+        Map<Long, String> columnTails = new HashMap<>();
+        Set<Long> versionedIds = new HashSet<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        for (int index = 0; index < operations.size(); index++) {
+            TaskOperationDtoRequest operation = operations.get(index);
+            TaskOperationResultDtoResponse result = new TaskOperationResultDtoResponse(index, operation.getTaskId());
+            try {
+                Task task = tasks.get(operation.getTaskId());
+                if (task == null) {
+                    throw new TaskNotFoundException("Tâche non trouvée avec ID : " + operation.getTaskId());
+                }
+                if (operation.getType() == null) {
+                    throw new InvalidTaskBatchException("Type d'opération manquant");
+                }
+                checkVersion(task, operation.getVersion());
+                switch (operation.getType()) {
+                    case UPDATE -> {
+                        validateChanges(task, operation.getChanges());
+                        applyChanges(projectId, task, operation.getChanges(), columnTails);
+                    }
+                    case MOVE -> applyMove(projectId, task, operation, columnTails);
+                    case DELETE -> {
+                        // Supprimée en une requête après la boucle ; ses modifications antérieures
+                        // dans le lot sont abandonnées avec elle.
+                        entityManager.detach(task);
+                        tasks.remove(task.getId());
+                        deletedIds.add(task.getId());
+                        applied.values().removeIf(task::equals);
+                    }
+                }
+                result.setStatus(TaskOperationResultDtoResponse.Status.APPLIED);
+                if (operation.getType() != TaskOperationDtoRequest.Type.DELETE) {
+                    // Une seule incrémentation par tâche et par lot, faite dès la première opération
+                    // appliquée : les suivantes sont vérifiées contre la version qui sera écrite.
+                    if (versionedIds.add(task.getId())) {
+                        task.setVersion(task.getVersion() + 1);
+                    }
+                    applied.put(index, task);
+                }
+            } catch (TaskNotFoundException | BoardColumnNotFoundException e) {
+                result.reject(TaskOperationResultDtoResponse.Status.NOT_FOUND, e.getMessage());
+            } catch (VersionConflictException e) {
+                result.reject(TaskOperationResultDtoResponse.Status.CONFLICT, e.getMessage());
+                result.setTask((TaskDtoResponse) e.getCurrent());
+            } catch (InvalidTaskPositionException | InvalidTaskBatchException e) {
+                result.reject(TaskOperationResultDtoResponse.Status.INVALID, e.getMessage());
+            }
+            results.add(result);
+        }
 
-        Task updatedTask = taskRepository.save(task);
+        taskRepository.flush();
+        if (!deletedIds.isEmpty()) {
+            taskRepository.deleteAllByIdIn(deletedIds);
+        }
+        applied.forEach((index, task) -> results.get(index).setTask(taskMapper.taskToTaskDtoResponse(task)));
+
+        return new TaskBatchDtoResponse(results);
+    }
+
+    /**
+     * Les modifications d'un lot sont partielles : c'est l'état de la tâche après application
+     * qui est validé, avant toute modification de l'entité.
+     */
+    private void validateChanges(Task task, TaskDtoRequest changes) {
+        if (changes == null) {
+            return;
+        }
+        TaskDtoRequest merged = taskMapper.taskToTaskDtoRequest(task);
+        if (changes.getTitle() != null) merged.setTitle(changes.getTitle());
+        if (changes.getDetail() != null) merged.setDetail(changes.getDetail());
+        if (changes.getPriority() != null) merged.setPriority(changes.getPriority());
+        if (changes.getTaskStatus() != null) merged.setTaskStatus(changes.getTaskStatus());
+        if (changes.getDueDate() != null) merged.setDueDate(changes.getDueDate());
+        if (changes.getTag() != null) merged.setTag(changes.getTag());
+        if (changes.getTagColor() != null) merged.setTagColor(changes.getTagColor());
+
+        Map<String, String> errors = TaskRequestValidator.validate(merged);
+        if (!errors.isEmpty()) {
+            throw new InvalidTaskBatchException("Modifications invalides pour la tâche " + task.getId() + " : "
+                    + errors.entrySet().stream()
+                    .map(error -> error.getKey() + " : " + error.getValue())
+                    .collect(Collectors.joining(", ")));
+        }
+    }
 
-        return taskMapper.taskToTaskDtoResponse(updatedTask);
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw conflict(task);
+        }
     }
 
+    private static void putIfChanged(Map<String, Object> changes, String attribute, Object current, Object target) {
+        if (!Objects.equals(current, target)) {
+            changes.put(attribute, target);
+        }
+    }
+
+    /**
+     * UPDATE conditionnel limité aux colonnes modifiées. Task n'est pas en @DynamicUpdate :
+     * Hibernate désactive alors le batching JDBC des UPDATE, dont dépend applyBatch.
+     */
+    private int updateChangedFields(Task task, Map<String, Object> changes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+        update.set(root.<Long>get("version"), builder.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDate>get("updatedDate"), LocalDate.now());
+        update.where(
+                builder.equal(root.get("id"), task.getId()),
+                builder.equal(root.get("version"), task.getVersion()));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private void applyChanges(Long projectId, Task task, TaskDtoRequest request, Map<Long, String> columnTails) {
+        if (request == null) {
+            throw new InvalidTaskBatchException("Modifications manquantes pour la tâche " + task.getId());
+        }
+        // La colonne cible est résolue avant toute modification : une opération rejetée
+        // ne doit rien laisser dans le contexte de persistance.
+        if (request.getBoardColumnId() != null && !request.getBoardColumnId().equals(task.getBoardColumn().getId())) {
+            BoardColumn boardColumn = findColumnInProject(projectId, request.getBoardColumnId());
+            task.setRank(nextTail(columnTails, request.getBoardColumnId()));
+            task.setBoardColumn(boardColumn);
+        }
+        if (request.getTitle() != null) task.setTitle(request.getTitle());
+        if (request.getDetail() != null) task.setDetail(request.getDetail());
+        if (request.getPriority() != null) task.setPriority(request.getPriority());
+        if (request.getTaskStatus() != null) task.setTaskStatus(request.getTaskStatus());
+        if (request.getDueDate() != null) task.setDueDate(request.getDueDate());
+        if (request.getTag() != null) task.setTag(request.getTag());
+        if (request.getTagColor() != null) task.setTagColor(request.getTagColor());
+    }
+
+    /**
+     * Variante en mémoire du déplacement pour les lots : le rang étant exclu du verrouillage
+     * optimiste, c'est l'incrémentation explicite de applyBatch qui rend la ligne versionnée.
+     */
+    private void applyMove(Long projectId, Task task, TaskOperationDtoRequest operation, Map<Long, String> columnTails) {
+        Long boardColumnId = operation.getBoardColumnId() != null ? operation.getBoardColumnId() : task.getBoardColumn().getId();
+        if (task.getId().equals(operation.getPreviousTaskId()) || task.getId().equals(operation.getNextTaskId())) {
+            throw new InvalidTaskPositionException("Une tâche ne peut pas être placée à côté d'elle-même");
+        }
+
+        BoardColumn boardColumn = findColumnInProject(projectId, boardColumnId);
+        String rank;
+        if (operation.getPreviousTaskId() == null && operation.getNextTaskId() == null) {
+            rank = nextTail(columnTails, boardColumnId);
+        } else {
+            rank = rankBetween(boardColumnId, operation.getPreviousTaskId(), operation.getNextTaskId());
+            columnTails.computeIfPresent(boardColumnId, (id, tail) -> rank.compareTo(tail) > 0 ? rank : tail);
+        }
+
+        task.setBoardColumn(boardColumn);
+        task.setRank(rank);
+        taskRankRebalancer.requestRebalanceIfNeeded(boardColumnId, rank);
+    }
+
+    /**
+     * Rang de fin de colonne mémorisé pour la durée d'un lot : une seule requête MAX par
+     * colonne cible, quel que soit le nombre de tâches qui y sont ajoutées.
+     */
+    private String nextTail(Map<Long, String> columnTails, Long boardColumnId) {
+        return columnTails.compute(boardColumnId,
+                (id, tail) -> tail != null ? RankGenerator.between(tail, null) : rankAtEnd(id));
+    }
+
+    private BoardColumn findColumnInProject(Long projectId, Long boardColumnId) {
+        return boardColumnRepository.findById(boardColumnId)
+                .filter(column -> column.getProject().getId().equals(projectId))
+                .orElseThrow(() -> new BoardColumnNotFoundException("Colonne non trouvée avec ID : " + boardColumnId));
+    }
+
+    /**
+     * Course perdue entre la lecture et l'UPDATE versionné : l'exception annule la transaction
+     * courante, et l'état courant n'est relu, en lecture seule, qu'à la construction du 409.
+     */
+    private VersionConflictException conflictAfterLostRace(Long projectId, Long taskId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return VersionConflictException.lostRace(
+                "La tâche " + taskId + " a été modifiée par un autre utilisateur",
+                () -> readOnly.execute(status -> taskRepository.findByIdAndProjectId(taskId, projectId)
+                        .map(taskMapper::taskToTaskDtoResponse)
+                        .orElse(null)));
+    }
+
+    private VersionConflictException conflict(Task current) {
+        return new VersionConflictException(
+                "La tâche " + current.getId() + " a été modifiée par un autre utilisateur (version "
+                        + current.getVersion() + ")",
+                taskMapper.taskToTaskDtoResponse(current));
+    }
+
+    /**
+     * Le curseur encode la clé (rang, id) de la dernière tâche renvoyée.
+     */
+    private static String encodeCursor(TaskSimplifiedDtoResponse last) {
+        String key = last.getRank() + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TaskCursor decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            return new TaskCursor(key.substring(0, separator), Long.parseLong(key.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidPageCursorException("Curseur de pagination invalide");
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package org.example.server.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.exception.InvalidMergePatchException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application d'un JSON Merge Patch (RFC 7396) sur un DTO de requête pré-rempli avec l'état
+ * courant de l'entité : un champ absent reste inchangé, un champ à null est effacé.
+ */
+public final class MergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private MergePatch() {
+    }
+
+    public static <T> T apply(ObjectMapper objectMapper, T target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidMergePatchException("Le patch doit être un objet JSON");
+        }
+        try {
+            return objectMapper.readerForUpdating(target).readValue(patch);
+        } catch (JsonProcessingException e) {
+            throw new InvalidMergePatchException("Patch invalide : " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new InvalidMergePatchException("Patch invalide : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ne lève que pour les erreurs portant sur un champ présent dans le patch : les valeurs
+     * inchangées ne sont pas revalidées.
+     */
+    public static void rejectInvalidFields(JsonNode patch, Map<String, String> errors) {
+        List<String> messages = new ArrayList<>();
+        errors.forEach((field, message) -> {
+            if (patch.has(field)) {
+                messages.add(field + " : " + message);
+            }
+        });
+        if (!messages.isEmpty()) {
+            throw new InvalidMergePatchException(String.join(", ", messages));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.server.util;
+
+/**
+ * Clés de rang fractionnaires en base 36 ([0-9a-z]), comparées lexicographiquement.
+ * Entre deux clés il existe toujours une clé intermédiaire : insérer ou déplacer une
+ * carte ne réécrit que sa propre ligne.
+ *
+ * Les clés posées en fin ou en tête de colonne restent sur WIDTH caractères en avançant
+ * d'un pas fixe ; seules les insertions entre deux voisins proches allongent la clé,
+ * et le rééquilibrage ({@link #spread}) ramène toute la colonne à WIDTH caractères.
+ * Aucune clé ne précède une clé faite uniquement de zéros : elle n'est jamais produite.
+ */
+public final class RankGenerator {
+
+    public static final int WIDTH = 6;
+    public static final int MAX_LENGTH = 128;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final long SPACE = pow(BASE, WIDTH);
+    private static final long STEP = BASE * BASE;
+
+    private RankGenerator() {
+    }
+
+    /**
+     * Clé strictement comprise entre before et after ; null désigne le début ou la fin
+     * de la colonne.
+     */
+    public static String between(String before, String after) {
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rangs non ordonnés : " + before + " >= " + after);
+        }
+        if (before == null && after == null) {
+            return encode(SPACE / 2);
+        }
+        if (after == null && prefixValue(before) + STEP < SPACE) {
+            return encode(prefixValue(before) + STEP);
+        }
+        // En tête, le pas s'arrête à STEP : en dessous, la clé serait 000000.
+        if (before == null && prefixValue(after) >= 2 * STEP) {
+            return encode(prefixValue(after) - STEP);
+        }
+        return midpoint(before == null ? "" : before, after);
+    }
+
+    /**
+     * Faux si aucune clé ne peut précéder rank (clé faite uniquement de zéros, héritée de
+     * données antérieures) : la colonne doit être rééquilibrée avant d'insérer en tête.
+     */
+    public static boolean hasRankBefore(String rank) {
+        return rank.chars().anyMatch(c -> c != '0');
+    }
+
+    /**
+     * Rang de la position-ième carte (à partir de 0) sur count, répartis uniformément.
+     */
+    public static String spread(int position, int count) {
+        long step = Math.max(1, SPACE / (count + 1L));
+        return encode((position + 1L) * step);
+    }
+
+    private static String midpoint(String before, String after) {
+        StringBuilder rank = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int low = i < before.length() ? digit(before.charAt(i)) : 0;
+            int high;
+            if (after == null) {
+                high = BASE;
+            } else if (i < after.length()) {
+                high = digit(after.charAt(i));
+            } else {
+                throw new IllegalArgumentException("Aucun rang possible avant " + after);
+            }
+
+            if (high - low > 1) {
+                return rank.append(DIGITS.charAt((low + high) / 2)).toString();
+            }
+            rank.append(DIGITS.charAt(low));
+            if (high > low) {
+                // Le préfixe est désormais strictement inférieur à after : plus de borne haute.
+                after = null;
+            }
+        }
+    }
+
+    private static long prefixValue(String rank) {
+        long value = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            value = value * BASE + (i < rank.length() ? digit(rank.charAt(i)) : 0);
+        }
+        return value;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[WIDTH];
+        for (int i = WIDTH - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Caractère de rang invalide : " + c);
+        }
+        return digit;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,3 @@
+-- Version de la structure du tableau, incrémentée à chaque ajout ou suppression de colonne.
+
+alter table project add column board_version bigint not null default 0;
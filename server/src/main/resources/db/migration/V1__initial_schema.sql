@@ -0,0 +1,84 @@
+-- Schéma exact que ddl-auto=update produisait avant l'introduction de Flyway, noms de
+-- contraintes de Hibernate compris. Les bases existantes sont baselinées sur cette version
+-- (spring.flyway.baseline-version=1) et ne la jouent pas : toute évolution du schéma faite
+-- depuis, même avant Flyway, passe par une migration suivante.
+
+create table `user` (
+    id bigint not null auto_increment,
+    first_name varchar(100) not null,
+    last_name varchar(100) not null,
+    email varchar(150) not null,
+    password varchar(255) not null,
+    position enum ('ARCHITECT','BUSINESS_ANALYST','CEO','CFO','COMMUNICATIONS_MANAGER','CTO','DESIGNER','DEVELOPER','DEVOPS','HR_MANAGER','MARKETING','PRODUCT_OWNER','PROJECT_MANAGER','SCRUM_MASTER','TECHNICAL_LEAD','TESTER'),
+    created_date date not null,
+    updated_date date,
+    primary key (id)
+) engine=InnoDB;
+
+create table project (
+    id bigint not null auto_increment,
+    name varchar(50) not null,
+    description varchar(100),
+    start_date date not null,
+    end_date date not null,
+    created_by bigint not null,
+    created_date date not null,
+    updated_date date,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_project (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    project_id bigint not null,
+    user_add_at date not null,
+    role enum ('ADMIN','MEMBER') not null,
+    created_date date not null,
+    updated_date date,
+    primary key (id)
+) engine=InnoDB;
+
+create table board_column (
+    id bigint not null auto_increment,
+    name varchar(50) not null,
+    project_id bigint not null,
+    created_date date not null,
+    updated_date date,
+    primary key (id)
+) engine=InnoDB;
+
+create table task (
+    id bigint not null auto_increment,
+    title varchar(50) not null,
+    detail varchar(300),
+    task_status enum ('COMPLETED','IN_PROGRESS','NOT_STARTED') not null,
+    priority enum ('HIGH','LOW','MEDIUM') not null,
+    due_date date not null,
+    board_column_id bigint,
+    tag varchar(20) not null,
+    tag_color varchar(7) not null,
+    created_date date not null,
+    updated_date date,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_task (
+    task_id bigint not null,
+    user_id bigint not null
+) engine=InnoDB;
+
+create table token_blacklist (
+    token varchar(255) not null,
+    expiry_date datetime(6),
+    primary key (token)
+) engine=InnoDB;
+
+alter table `user` add constraint UKhl4ga9r00rh51mdaf20hmnslt unique (email);
+
+alter table project add constraint FK1d93cencmm3xnvuk0ns3vrqm9 foreign key (created_by) references `user` (id);
+alter table user_project add constraint FK9oxv9lxxu83gn6rktjnf0mi2l foreign key (user_id) references `user` (id);
+alter table user_project add constraint FKocfkr6u2yh3w1qmybs8vxuv1c foreign key (project_id) references project (id);
+alter table board_column add constraint FKnx6n3vidd6lf5cd97vcb0qjl1 foreign key (project_id) references project (id);
+alter table task add constraint FK1837ekpt4aqivpoj8h16l9bwo foreign key (board_column_id) references board_column (id);
+alter table user_task add constraint FK8q1joy748n5hutw4ukoi7xead foreign key (user_id) references `user` (id);
+alter table user_task add constraint FKvs34bjkmpbk2e54qlrol3ilt foreign key (task_id) references task (id);
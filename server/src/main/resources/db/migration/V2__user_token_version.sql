@@ -0,0 +1,3 @@
+-- Génération de jetons par utilisateur : les jetons émis avant une révocation globale sont refusés.
+
+alter table `user` add column token_version integer not null default 0;
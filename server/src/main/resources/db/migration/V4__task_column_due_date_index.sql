@@ -0,0 +1,3 @@
+-- Ordre d'affichage des cartes d'une colonne (échéance puis id), lu par les requêtes par colonne.
+
+create index idx_task_column_due_date_id on task (board_column_id, due_date, id);
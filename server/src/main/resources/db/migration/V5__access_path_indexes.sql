@@ -0,0 +1,20 @@
+-- Index des chemins d'accès réellement utilisés par les requêtes.
+-- task(board_column_id) est couvert par le préfixe de idx_task_column_due_date_id (V4)
+-- et token_blacklist(expiry_date) par idx_token_blacklist_expiry_date (V3).
+
+-- Une appartenance par couple (utilisateur, projet). L'ancienne attribution de rôle insérait
+-- une nouvelle ligne à chaque changement et l'accès était accordé dès qu'une ligne correspondait :
+-- on garde donc la ligne ADMIN s'il en existe une, sinon la plus récente (max(id)), pour ne
+-- rétrograder personne. La table dérivée est matérialisée (GROUP BY), ce que MySQL exige pour
+-- lire la table qu'il modifie. L'index unique remplace l'index simple idx_user_project_user_project
+-- que l'entité déclarait avant Flyway.
+delete from user_project
+where id not in (select kept.id
+                 from (select coalesce(max(case when role = 'ADMIN' then id end), max(id)) as id
+                       from user_project
+                       group by user_id, project_id) kept);
+
+create unique index uk_user_project_user_project on user_project (user_id, project_id);
+
+create index idx_board_column_project on board_column (project_id);
+create index idx_user_task_user_task on user_task (user_id, task_id);
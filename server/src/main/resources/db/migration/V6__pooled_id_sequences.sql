@@ -0,0 +1,14 @@
+-- Séquences émulées par table (MySQL n'a pas de séquences) pour l'optimiseur pooled-lo :
+-- next_val est le premier identifiant du prochain bloc de 50, donc max(id) + 1.
+
+create table project_seq (next_val bigint) engine=InnoDB;
+insert into project_seq select coalesce(max(id), 0) + 1 from project;
+
+create table user_project_seq (next_val bigint) engine=InnoDB;
+insert into user_project_seq select coalesce(max(id), 0) + 1 from user_project;
+
+create table board_column_seq (next_val bigint) engine=InnoDB;
+insert into board_column_seq select coalesce(max(id), 0) + 1 from board_column;
+
+create table task_seq (next_val bigint) engine=InnoDB;
+insert into task_seq select coalesce(max(id), 0) + 1 from task;
@@ -0,0 +1,4 @@
+-- Colonnes de version pour le verrouillage optimiste (@Version) des tâches et des colonnes.
+
+alter table task add column version bigint not null default 0;
+alter table board_column add column version bigint not null default 0;
@@ -0,0 +1,15 @@
+-- Rang fractionnaire des cartes (RankGenerator) : clés base 36 comparées octet par octet.
+-- Les tâches existantes gardent l'ordre affiché jusqu'ici (échéance puis id), espacées
+-- d'un pas de 36^2 sur 6 caractères.
+
+alter table task add column task_rank varchar(128) character set ascii collate ascii_bin;
+
+update task t
+    join (select id, row_number() over (partition by board_column_id order by due_date, id) as position
+          from task) ranked on ranked.id = t.id
+set t.task_rank = lower(lpad(conv(ranked.position * 1296, 10, 36), 6, '0'));
+
+alter table task modify column task_rank varchar(128) character set ascii collate ascii_bin not null;
+
+create index idx_task_column_rank_id on task (board_column_id, task_rank, id);
+drop index idx_task_column_due_date_id on task;
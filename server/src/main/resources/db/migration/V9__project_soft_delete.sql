@@ -0,0 +1,4 @@
+-- Suppression logique des projets : la purge des tâches, colonnes et membres est faite en arrière-plan.
+
+alter table project add column deleted_at datetime(6) null;
+create index idx_project_deleted_at on project (deleted_at);
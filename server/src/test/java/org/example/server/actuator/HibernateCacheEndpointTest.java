@@ -0,0 +1,85 @@
+package org.example.server.actuator;
+
+import org.example.server.model.PositionEnum;
+import org.example.server.model.Project;
+import org.example.server.model.User;
+import org.example.server.repository.ProjectRepository;
+import org.example.server.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(HibernateCacheEndpoint.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheEndpointTest {
+
+    private static final String PROJECT_REGION = "org.example.server.model.Project";
+
+    @Autowired
+    private HibernateCacheEndpoint endpoint;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void projectReads_AreServedFromCacheAndInvalidatedOnWrite() {
+        User creator = userRepository.save(User.builder()
+                .firstName("Prénom")
+                .lastName("Nom")
+                .email("cache@example.com")
+                .password("secret")
+                .position(PositionEnum.DEVELOPER)
+                .createdDate(LocalDate.now())
+                .build());
+        Project project = projectRepository.save(newProject("Projet", creator));
+
+        long hitsBefore = endpoint.regions().get(PROJECT_REGION).hitCount();
+        projectRepository.findById(project.getId());
+        projectRepository.findById(project.getId());
+        assertTrue(endpoint.regions().get(PROJECT_REGION).hitCount() >= hitsBefore + 1);
+
+        project.setName("Renommé");
+        projectRepository.save(project);
+        assertEquals("Renommé", projectRepository.findById(project.getId()).orElseThrow().getName());
+
+        assertEquals(1, projectRepository.findCreatedProjectsByUserId(creator.getId()).size());
+        assertEquals(1, projectRepository.findCreatedProjectsByUserId(creator.getId()).size());
+        projectRepository.save(newProject("Second", creator));
+        assertEquals(2, projectRepository.findCreatedProjectsByUserId(creator.getId()).size());
+
+        Map<String, HibernateCacheEndpoint.RegionStatistics> regions = endpoint.regions();
+        assertTrue(regions.get("default-query-results-region").hitCount() >= 1);
+    }
+
+    private Project newProject(String name, User creator) {
+        return Project.builder()
+                .name(name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .createdBy(creator)
+                .createdDate(LocalDate.now())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.server.migration;
+
+import org.example.server.security.TokenHashUtil;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Part d'une base telle que ddl-auto=update la laissait avant Flyway (le script V1 exécuté
+ * hors Flyway), avec les doublons de l'ancienne attribution de rôle et des tokens révoqués
+ * stockés en clair, puis la migre comme en production : baseline en version 1, puis les
+ * migrations suivantes. Les migrations au-delà de V5 utilisent une syntaxe propre à MySQL.
+ */
+class BaselineMigrationTest {
+
+    private static final String TARGET = "5";
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__initial_schema.sql")).execute(dataSource);
+
+        jdbcTemplate.update("INSERT INTO `user` (id, first_name, last_name, email, password, created_date)"
+                + " VALUES (1, 'A', 'A', 'a@example.com', 'x', CURRENT_DATE),"
+                + " (2, 'B', 'B', 'b@example.com', 'x', CURRENT_DATE),"
+                + " (3, 'C', 'C', 'c@example.com', 'x', CURRENT_DATE)");
+        jdbcTemplate.update("INSERT INTO project (id, name, start_date, end_date, created_by, created_date)"
+                + " VALUES (1, 'Projet', CURRENT_DATE, CURRENT_DATE, 1, CURRENT_DATE)");
+    }
+
+    @Test
+    void baselinedDatabase_RunsEveryMigrationAfterV1() {
+        migrate();
+
+        List<MigrationInfo> applied = Arrays.asList(flyway().info().applied());
+        assertEquals("1", applied.get(0).getVersion().getVersion());
+        assertEquals(List.of("1", "2", "3", "4", "5"), applied.stream()
+                .map(migration -> migration.getVersion().getVersion())
+                .toList());
+        assertEquals(List.of(0), jdbcTemplate.queryForList("SELECT DISTINCT token_version FROM `user`", Integer.class));
+    }
+
+    @Test
+    void tokenBlacklist_KeepsLiveRevocationsKeyedByHash() {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update("INSERT INTO token_blacklist (token, expiry_date) VALUES (?, ?), (?, ?), (?, NULL)",
+                "live.jwt.token", new Timestamp(now + 3600000),
+                "expired.jwt.token", new Timestamp(now - 3600000),
+                "undated.jwt.token");
+
+        migrate();
+
+        assertEquals(List.of(TokenHashUtil.sha256("live.jwt.token")),
+                jdbcTemplate.queryForList("SELECT token_hash FROM token_blacklist", String.class));
+    }
+
+    @Test
+    void dedup_KeepsAdminRowOfPromotedMember() {
+        membership(10, 1, "MEMBER");
+        membership(11, 1, "ADMIN");
+        membership(12, 1, "MEMBER");
+
+        migrate();
+
+        assertEquals(List.of(Map.of("id", 11L, "role", "ADMIN")), rowsOf(1));
+        assertThrows(DataIntegrityViolationException.class, () -> membership(13, 1, "MEMBER"));
+    }
+
+    @Test
+    void dedup_WithoutAdminRow_KeepsLatestRow() {
+        membership(20, 2, "MEMBER");
+        membership(21, 2, "MEMBER");
+        membership(30, 3, "ADMIN");
+
+        migrate();
+
+        assertEquals(List.of(Map.of("id", 21L, "role", "MEMBER")), rowsOf(2));
+        assertEquals(List.of(Map.of("id", 30L, "role", "ADMIN")), rowsOf(3));
+    }
+
+    @Test
+    void emptyDatabase_RunsV1ThenTheSameMigrations() {
+        DataSource empty = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+
+        assertEquals(5, Flyway.configure()
+                .dataSource(empty)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target(TARGET)
+                .load()
+                .migrate()
+                .migrationsExecuted);
+    }
+
+    private void migrate() {
+        flyway().migrate();
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target(TARGET)
+                .load();
+    }
+
+    private void membership(long id, long userId, String role) {
+        jdbcTemplate.update("INSERT INTO user_project (id, user_id, project_id, user_add_at, role, created_date)"
+                + " VALUES (?, ?, 1, CURRENT_DATE, ?, CURRENT_DATE)", id, userId, role);
+    }
+
+    private List<Map<String, Object>> rowsOf(long userId) {
+        return jdbcTemplate.queryForList("SELECT id, role FROM user_project WHERE user_id = ? ORDER BY id", userId);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.server.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.server.exception.ErrorDetails;
+import org.example.server.exception.GlobalExceptionHandler;
+import org.example.server.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encodeAndMatches_RunOnDedicatedPool() {
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(1, 1, 10000, meterRegistry);
+
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertFalse(passwordEncoder.matches("wrongPassword", encoded));
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void encode_PoolAndQueueFull_RejectedAsUnavailable() throws Exception {
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(executor, 10000, meterRegistry);
+        // Une tâche bloquée occupe le seul thread, une seconde la seule place de la file.
+        blockPool();
+        executor.submit(() -> release.await(1, TimeUnit.MINUTES));
+
+        PasswordHashingUnavailableException ex = assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordEncoder.encode("password"));
+
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").tag("reason", "saturated").counter().count());
+        assertEquals(1, meterRegistry.get("password.hashing.queue").gauge().value());
+        ResponseEntity<ErrorDetails> response = new GlobalExceptionHandler()
+                .handlePasswordHashingUnavailableException(ex, new ServletWebRequest(new MockHttpServletRequest()));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void encode_WaitingPastTimeout_RejectedAsUnavailable() throws Exception {
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(executor, 200, meterRegistry);
+        blockPool();
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.encode("password"));
+
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count());
+        // La demande abandonnée est annulée : elle n'est pas hachée une fois le pool libéré.
+        release.countDown();
+        assertNotNull(new BoundedPasswordEncoder(executor, 10000, meterRegistry).encode("password"));
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+    }
+
+    private void blockPool() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        executor.submit(() -> {
+            running.countDown();
+            return release.await(1, TimeUnit.MINUTES);
+        });
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+    }
+}
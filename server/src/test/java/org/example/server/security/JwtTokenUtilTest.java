@@ -0,0 +1,69 @@
+package org.example.server.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.server.exception.TokenInvalidException;
+import org.example.server.repository.TokenBlacklistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenUtilTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    private TokenBlacklistIndex tokenBlacklistIndex;
+    private VerifiedClaimsCache verifiedClaimsCache;
+    private JwtTokenUtil jwtTokenUtil;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistIndex = new TokenBlacklistIndex(tokenBlacklistRepository);
+        verifiedClaimsCache = new VerifiedClaimsCache(100, new SimpleMeterRegistry());
+        jwtTokenUtil = new JwtTokenUtil(SECRET, 60000, tokenBlacklistIndex, verifiedClaimsCache);
+    }
+
+    @Test
+    void validateActiveToken_UsesCacheOnSecondCall() {
+        String token = jwtTokenUtil.generateToken("test@example.com", 1L, 0);
+
+        Claims first = jwtTokenUtil.validateActiveToken(token);
+        Claims second = jwtTokenUtil.validateActiveToken(token);
+
+        assertEquals("test@example.com", second.getSubject());
+        assertEquals(0, second.get("tokenVersion", Integer.class));
+        assertSame(first, second);
+        assertEquals(1, verifiedClaimsCache.getMissCount());
+        assertEquals(1, verifiedClaimsCache.getHitCount());
+        verifyNoInteractions(tokenBlacklistRepository);
+    }
+
+    @Test
+    void validateActiveToken_BlacklistedToken_ThrowsException() {
+        String token = jwtTokenUtil.generateToken("test@example.com", 1L, 0);
+        tokenBlacklistIndex.add(token, new Date(System.currentTimeMillis() + 60000));
+
+        assertThrows(TokenInvalidException.class, () -> jwtTokenUtil.validateActiveToken(token));
+        verifyNoInteractions(tokenBlacklistRepository);
+    }
+
+    @Test
+    void validateToken_TamperedToken_ThrowsException() {
+        String token = jwtTokenUtil.generateToken("test@example.com", 1L, 0);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(TokenInvalidException.class, () -> jwtTokenUtil.validateToken(tampered));
+    }
+}
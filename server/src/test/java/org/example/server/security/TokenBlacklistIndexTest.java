@@ -0,0 +1,69 @@
+package org.example.server.security;
+
+import org.example.server.model.TokenBlacklist;
+import org.example.server.repository.TokenBlacklistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistIndexTest {
+
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    @InjectMocks
+    private TokenBlacklistIndex tokenBlacklistIndex;
+
+    @Test
+    void refresh_LoadsNonExpiredEntries() {
+        TokenBlacklist entry = new TokenBlacklist();
+        entry.setTokenHash(TokenHashUtil.sha256("revokedToken"));
+        entry.setExpiryDate(new Date(System.currentTimeMillis() + 60000));
+        when(tokenBlacklistRepository.findAllByExpiryDateAfter(any(Date.class))).thenReturn(List.of(entry));
+
+        tokenBlacklistIndex.refresh();
+
+        assertTrue(tokenBlacklistIndex.isRevoked("revokedToken"));
+        assertFalse(tokenBlacklistIndex.isRevoked("otherToken"));
+    }
+
+    @Test
+    void refresh_KeepsTokenAddedWhileReloading() {
+        tokenBlacklistIndex.add("earlierToken", new Date(System.currentTimeMillis() + 60000));
+        // Déconnexion validée après la lecture en base : absente du résultat, ajoutée pendant le rechargement.
+        when(tokenBlacklistRepository.findAllByExpiryDateAfter(any(Date.class))).thenAnswer(invocation -> {
+            tokenBlacklistIndex.add("concurrentToken", new Date(System.currentTimeMillis() + 60000));
+            return List.of();
+        });
+
+        tokenBlacklistIndex.refresh();
+
+        assertTrue(tokenBlacklistIndex.isRevoked("concurrentToken"));
+        assertTrue(tokenBlacklistIndex.isRevoked("earlierToken"));
+    }
+
+    @Test
+    void add_IgnoresAlreadyExpiredToken() {
+        tokenBlacklistIndex.add("expiredToken", new Date(System.currentTimeMillis() - 1000));
+
+        assertFalse(tokenBlacklistIndex.isRevoked("expiredToken"));
+        assertEquals(0, tokenBlacklistIndex.size());
+    }
+
+    @Test
+    void isRevoked_ReturnsTrueForAddedToken() {
+        tokenBlacklistIndex.add("loggedOutToken", new Date(System.currentTimeMillis() + 60000));
+
+        assertTrue(tokenBlacklistIndex.isRevoked("loggedOutToken"));
+        verifyNoInteractions(tokenBlacklistRepository);
+    }
+}
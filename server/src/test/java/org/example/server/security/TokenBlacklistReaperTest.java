@@ -0,0 +1,66 @@
+package org.example.server.security;
+
+import org.example.server.model.TokenBlacklist;
+import org.example.server.repository.TokenBlacklistRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "jwt.blacklist.reaper-batch-size=10",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@Import(TokenBlacklistReaper.class)
+class TokenBlacklistReaperTest {
+
+    private static final int EXPIRED = 25;
+    private static final int LIVE = 5;
+
+    @Autowired
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    @Autowired
+    private TokenBlacklistReaper tokenBlacklistReaper;
+
+    @Test
+    void purgeExpiredTokens_DeletesOnlyExpiredRowsAcrossBatches() {
+        long now = System.currentTimeMillis();
+        List<TokenBlacklist> entries = new ArrayList<>();
+        for (int i = 0; i < EXPIRED; i++) {
+            entries.add(entry("expired-" + i, new Date(now - 60000 - i)));
+        }
+        for (int i = 0; i < LIVE; i++) {
+            entries.add(entry("live-" + i, new Date(now + 3600000)));
+        }
+        tokenBlacklistRepository.saveAllAndFlush(entries);
+
+        // 25 lignes expirées pour des lots de 10 : trois passes.
+        tokenBlacklistReaper.purgeExpiredTokens();
+
+        Set<String> remaining = tokenBlacklistRepository.findAll().stream()
+                .map(TokenBlacklist::getTokenHash)
+                .collect(Collectors.toSet());
+        Set<String> live = entries.subList(EXPIRED, EXPIRED + LIVE).stream()
+                .map(TokenBlacklist::getTokenHash)
+                .collect(Collectors.toSet());
+        assertEquals(live, remaining);
+    }
+
+    private static TokenBlacklist entry(String token, Date expiryDate) {
+        TokenBlacklist entry = new TokenBlacklist();
+        entry.setTokenHash(TokenHashUtil.sha256(token));
+        entry.setExpiryDate(expiryDate);
+        return entry;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.server.security;
+
+import org.example.server.exception.TokenInvalidException;
+import org.example.server.exception.UserNotFoundException;
+import org.example.server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = new UserPrincipalCache(userRepository, 60000, 100);
+    }
+
+    @Test
+    void resolve_LoadsUserOnceWithinTtl() {
+        when(userRepository.findTokenVersionByIdAndEmail(1L, "test@example.com")).thenReturn(Optional.of(0));
+
+        AuthenticatedUser first = userPrincipalCache.resolve(1L, "test@example.com", 0);
+        AuthenticatedUser second = userPrincipalCache.resolve(1L, "test@example.com", 0);
+
+        assertEquals(1L, second.getId());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findTokenVersionByIdAndEmail(1L, "test@example.com");
+    }
+
+    @Test
+    void resolve_ReloadsUserAfterEviction() {
+        when(userRepository.findTokenVersionByIdAndEmail(1L, "test@example.com")).thenReturn(Optional.of(0));
+
+        userPrincipalCache.resolve(1L, "test@example.com", 0);
+        userPrincipalCache.evict(1L);
+        userPrincipalCache.resolve(1L, "test@example.com", 0);
+
+        verify(userRepository, times(2)).findTokenVersionByIdAndEmail(1L, "test@example.com");
+    }
+
+    @Test
+    void resolve_EmailMismatch_ThrowsException() {
+        when(userRepository.findTokenVersionByIdAndEmail(1L, "test@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userPrincipalCache.resolve(1L, "test@example.com", 0));
+    }
+
+    @Test
+    void resolve_OutdatedTokenVersion_ThrowsException() {
+        when(userRepository.findTokenVersionByIdAndEmail(1L, "test@example.com")).thenReturn(Optional.of(2));
+
+        assertThrows(TokenInvalidException.class, () -> userPrincipalCache.resolve(1L, "test@example.com", 1));
+        assertEquals(1L, userPrincipalCache.resolve(1L, "test@example.com", 2).getId());
+    }
+}
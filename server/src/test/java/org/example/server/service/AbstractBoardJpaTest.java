@@ -0,0 +1,163 @@
+package org.example.server.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.server.model.*;
+import org.example.server.repository.BoardColumnRepository;
+import org.example.server.repository.ProjectRepository;
+import org.example.server.repository.TaskRepository;
+import org.example.server.repository.UserProjectRepository;
+import org.example.server.repository.UserRepository;
+import org.example.server.util.RankGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Socle des tests de service sur H2 qui valident réellement leurs données : chaque appel de
+ * service s'exécute dans sa propre transaction, comme en production (verrous, REQUIRES_NEW,
+ * invalidation du cache de second niveau), et tout est effacé après chaque test.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class AbstractBoardJpaTest {
+
+    private static final AtomicLong USERS = new AtomicLong();
+
+    /**
+     * Un projet, son créateur et ses colonnes, dans l'ordre demandé.
+     */
+    protected record Board(User creator, Project project, List<BoardColumn> columns) {
+
+        Long projectId() {
+            return project.getId();
+        }
+
+        Long columnId(int index) {
+            return columns.get(index).getId();
+        }
+    }
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ProjectRepository projectRepository;
+
+    @Autowired
+    protected BoardColumnRepository boardColumnRepository;
+
+    @Autowired
+    protected TaskRepository taskRepository;
+
+    @Autowired
+    protected UserProjectRepository userProjectRepository;
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteBoardData() {
+        // En SQL : les projets supprimés logiquement échappent aux requêtes JPA.
+        for (String table : List.of("user_task", "task", "board_column", "user_project", "project", "\"user\"")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    protected Board createBoard(String... columnNames) {
+        User creator = userRepository.save(newUser());
+        Project project = projectRepository.save(newProject("Projet", creator));
+        List<BoardColumn> columns = boardColumnRepository.saveAll(Arrays.stream(columnNames)
+                .map(name -> newColumn(name, project))
+                .toList());
+        return new Board(creator, project, columns);
+    }
+
+    /**
+     * count tâches « Tâche 0 » à « Tâche count-1 », rangées dans cet ordre.
+     */
+    protected List<Long> createTasks(BoardColumn column, int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(newTask(column, i, count));
+        }
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    protected void assign(Long taskId, Long userId) {
+        jdbcTemplate.update("INSERT INTO user_task (task_id, user_id) VALUES (?, ?)", taskId, userId);
+    }
+
+    protected static User newUser() {
+        return User.builder()
+                .firstName("Prénom")
+                .lastName("Nom")
+                .email("user-" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .position(PositionEnum.DEVELOPER)
+                .createdDate(LocalDate.now())
+                .build();
+    }
+
+    protected static Project newProject(String name, User creator) {
+        return Project.builder()
+                .name(name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .createdBy(creator)
+                .createdDate(LocalDate.now())
+                .build();
+    }
+
+    protected static BoardColumn newColumn(String name, Project project) {
+        return BoardColumn.builder()
+                .name(name)
+                .project(project)
+                .createdDate(LocalDate.now())
+                .build();
+    }
+
+    protected static Task newTask(BoardColumn column, int position, int count) {
+        return Task.builder()
+                .title("Tâche " + position)
+                .rank(RankGenerator.spread(position, count))
+                .taskStatus(TaskStatusEnum.NOT_STARTED)
+                .priority(PriorityEnum.LOW)
+                .dueDate(LocalDate.now())
+                .boardColumn(column)
+                .tag("tag")
+                .tagColor("#ffffff")
+                .createdDate(LocalDate.now())
+                .build();
+    }
+
+    protected static UserProject newMembership(User user, Project project, RoleEnum role) {
+        return UserProject.builder()
+                .user(user)
+                .project(project)
+                .role(role)
+                .userAddAt(LocalDate.now())
+                .createdDate(LocalDate.now())
+                .build();
+    }
+}
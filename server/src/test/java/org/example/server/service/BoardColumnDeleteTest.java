@@ -0,0 +1,92 @@
+package org.example.server.service;
+
+import org.example.server.dto.request.BoardColumnDtoRequest;
+import org.example.server.dto.response.BoardDeltaDtoResponse;
+import org.example.server.exception.BoardColumnNotFoundException;
+import org.example.server.mapper.BoardColumnMapper;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.BoardColumn;
+import org.example.server.service.impl.BoardColumnServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({BoardColumnServiceImpl.class, BoardColumnMapper.class, TaskMapper.class})
+class BoardColumnDeleteTest extends AbstractBoardJpaTest {
+
+    private static final int TASKS = 200;
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private BoardColumnServiceImpl boardColumnService;
+
+    private Long projectId;
+    private Long todoColumnId;
+    private Long doneColumnId;
+
+    @BeforeEach
+    void setUp() {
+        Board board = createBoard("A faire", "Terminé");
+        createTasks(board.columns().get(0), TASKS).forEach(taskId -> assign(taskId, board.creator().getId()));
+        createTasks(board.columns().get(1), 1).forEach(taskId -> assign(taskId, board.creator().getId()));
+
+        projectId = board.projectId();
+        todoColumnId = board.columnId(0);
+        doneColumnId = board.columnId(1);
+    }
+
+    @Test
+    void deleteBoardColumn_ReturnsDeltaWithoutLoadingTheBoard() {
+        boardColumnRepository.findById(todoColumnId);
+        assertTrue(entityManagerFactory.getCache().contains(BoardColumn.class, todoColumnId));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BoardDeltaDtoResponse delta = boardColumnService.deleteBoardColumn(projectId, todoColumnId);
+
+        assertEquals(todoColumnId, delta.getDeletedId());
+        assertEquals(List.of(), delta.getAffectedColumnIds());
+        assertEquals(1L, delta.getBoardVersion());
+        // Seul le projet verrouillé est chargé, quel que soit le nombre de tâches supprimées.
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+
+        assertFalse(entityManagerFactory.getCache().contains(BoardColumn.class, todoColumnId));
+        assertTrue(boardColumnRepository.findById(todoColumnId).isEmpty());
+        assertEquals(1, taskRepository.count());
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_task", Long.class));
+        assertEquals(1L, projectRepository.findById(projectId).orElseThrow().getBoardVersion());
+
+        assertThrows(BoardColumnNotFoundException.class,
+                () -> boardColumnService.deleteBoardColumn(projectId, todoColumnId));
+    }
+
+    @Test
+    void createBoardColumn_IncrementsBoardVersion() {
+        BoardColumnDtoRequest request = new BoardColumnDtoRequest();
+        request.setName("En cours");
+
+        BoardDeltaDtoResponse created = boardColumnService.createBoardColumn(projectId, request);
+        assertEquals(1L, created.getBoardVersion());
+        assertEquals("En cours", created.getCreatedColumn().getName());
+        assertNotNull(created.getCreatedColumn().getId());
+
+        BoardDeltaDtoResponse delta = boardColumnService.deleteBoardColumn(projectId, doneColumnId);
+
+        assertEquals(2L, delta.getBoardVersion());
+        assertEquals(2L, projectRepository.findById(projectId).orElseThrow().getBoardVersion());
+    }
+}
@@ -6,14 +6,17 @@ import org.example.server.dto.response.CreatedProjectsDtoResponse;
 import org.example.server.dto.response.LoginDtoResponse;
 import org.example.server.exception.InvalidCredentialsException;
 import org.example.server.exception.TokenExpiredException;
-import org.example.server.mapper.SharedMapper;
-import org.example.server.mapper.UserProjectMapper;
 import org.example.server.model.TokenBlacklist;
 import org.example.server.model.User;
-import org.example.server.model.Project;
+import org.example.server.dto.response.UserProjectDtoResponse;
+import org.example.server.model.RoleEnum;
+import org.example.server.repository.ProjectRepository;
 import org.example.server.repository.TokenBlacklistRepository;
+import org.example.server.repository.UserProjectRepository;
 import org.example.server.repository.UserRepository;
 import org.example.server.security.JwtTokenUtil;
+import org.example.server.security.TokenBlacklistIndex;
+import org.example.server.security.UserPrincipalCache;
 import org.example.server.service.impl.LoginServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,10 +51,16 @@ class LoginServiceImplTest {
     private TokenBlacklistRepository tokenBlacklistRepository;
 
     @Mock
-    private SharedMapper sharedMapper;
+    private TokenBlacklistIndex tokenBlacklistIndex;
 
     @Mock
-    private UserProjectMapper userProjectMapper;
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserProjectRepository userProjectRepository;
 
     @InjectMocks
     private LoginServiceImpl loginService;
@@ -70,36 +79,30 @@ class LoginServiceImplTest {
         user.setFirstName("John");
         user.setLastName("Doe");
 
-        List<Project> createdProjects = List.of(
-                Project.builder()
-                        .id(1L)
-                        .name("Project 1")
-                        .description("Description 1")
-                        .startDate(LocalDate.of(2023, 1, 1))
-                        .endDate(LocalDate.of(2023, 12, 31))
-                        .createdDate(LocalDate.of(2023, 1, 1))
-                        .updatedDate(LocalDate.of(2023, 6, 1))
+        List<CreatedProjectsDtoResponse> createdProjects = List.of(
+                new CreatedProjectsDtoResponse(
+                        1L,
+                        "Project 1",
+                        "Description 1",
+                        LocalDate.of(2023, 1, 1),
+                        LocalDate.of(2023, 12, 31),
+                        LocalDate.of(2023, 1, 1),
+                        LocalDate.of(2023, 6, 1))
+        );
+        List<UserProjectDtoResponse> userProjects = List.of(
+                UserProjectDtoResponse.builder()
+                        .id(10L)
+                        .projectId(1L)
+                        .projectName("Project 1")
+                        .roleEnum(RoleEnum.ADMIN)
                         .build()
         );
-        user.setCreatedProjects(createdProjects);
 
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
-        when(jwtTokenUtil.generateToken("test@example.com", 1L)).thenReturn("mockToken");
-
-        when(sharedMapper.projectToCreatedProjectsDtoResponse(any(Project.class)))
-                .thenAnswer(invocation -> {
-                    Project project = invocation.getArgument(0);
-                    CreatedProjectsDtoResponse dto = new CreatedProjectsDtoResponse();
-                    dto.setId(project.getId());
-                    dto.setName(project.getName());
-                    dto.setDescription(project.getDescription());
-                    dto.setStartDate(project.getStartDate());
-                    dto.setEndDate(project.getEndDate());
-                    dto.setCreatedDate(project.getCreatedDate());
-                    dto.setUpdatedDate(project.getUpdatedDate());
-                    return dto;
-                });
+        when(jwtTokenUtil.generateToken("test@example.com", 1L, 0)).thenReturn("mockToken");
+        when(projectRepository.findCreatedProjectsByUserId(1L)).thenReturn(createdProjects);
+        when(userProjectRepository.findUserProjectsByUserId(1L)).thenReturn(userProjects);
 
         LoginDtoResponse response = loginService.login(request);
 
@@ -112,10 +115,14 @@ class LoginServiceImplTest {
 
         assertNotNull(response.getCreatedProjects());
         assertEquals(1, response.getCreatedProjects().size());
+        assertEquals(1, response.getUserProjects().size());
+        assertEquals(RoleEnum.ADMIN, response.getUserProjects().get(0).getRoleEnum());
 
         verify(userRepository).findByEmail("test@example.com");
         verify(passwordEncoder).matches("password", "encodedPassword");
-        verify(jwtTokenUtil).generateToken("test@example.com", 1L);
+        verify(jwtTokenUtil).generateToken("test@example.com", 1L, 0);
+        verify(projectRepository).findCreatedProjectsByUserId(1L);
+        verify(userProjectRepository).findUserProjectsByUserId(1L);
     }
 
     @Test
@@ -163,6 +170,7 @@ class LoginServiceImplTest {
         assertTrue(result);
         verify(jwtTokenUtil).validateToken(token);
         verify(tokenBlacklistRepository).save(any(TokenBlacklist.class));
+        verify(tokenBlacklistIndex).add(eq(token), any(Date.class));
     }
 
     @Test
@@ -174,5 +182,23 @@ class LoginServiceImplTest {
         assertThrows(TokenExpiredException.class, () -> loginService.logout(token));
         verify(jwtTokenUtil).validateToken(token);
         verifyNoInteractions(tokenBlacklistRepository);
+        verifyNoInteractions(tokenBlacklistIndex);
+    }
+
+    @Test
+    void testLogoutAllSessions_Success() {
+
+        String token = "validToken";
+        Claims claims = mock(Claims.class);
+        when(claims.get("userId", Long.class)).thenReturn(1L);
+        when(jwtTokenUtil.validateToken(token)).thenReturn(claims);
+        when(userRepository.incrementTokenVersion(1L)).thenReturn(1);
+
+        boolean result = loginService.logoutAllSessions(token);
+
+        assertTrue(result);
+        verify(userRepository).incrementTokenVersion(1L);
+        verify(userPrincipalCache).evictAfterCommit(1L);
+        verifyNoInteractions(tokenBlacklistRepository);
     }
 }
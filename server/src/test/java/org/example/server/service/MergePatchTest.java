@@ -0,0 +1,181 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.TaskDtoResponse;
+import org.example.server.exception.InvalidMergePatchException;
+import org.example.server.mapper.BoardColumnMapper;
+import org.example.server.mapper.ProjectMapper;
+import org.example.server.mapper.SharedMapper;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.Project;
+import org.example.server.model.Task;
+import org.example.server.security.ProjectRoleCache;
+import org.example.server.service.impl.BoardColumnServiceImpl;
+import org.example.server.service.impl.ProjectServiceImpl;
+import org.example.server.service.impl.TaskRankRebalancer;
+import org.example.server.service.impl.TaskServiceImpl;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.server.service.MergePatchTest$RecordingStatementInspector")
+@Import({TaskServiceImpl.class, ProjectServiceImpl.class, BoardColumnServiceImpl.class, TaskRankRebalancer.class,
+        ProjectRoleCache.class, ProjectMapper.class, SharedMapper.class, BoardColumnMapper.class, TaskMapper.class})
+class MergePatchTest extends AbstractBoardJpaTest {
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+    }
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private ProjectServiceImpl projectService;
+
+    @Autowired
+    private BoardColumnServiceImpl boardColumnService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long projectId;
+    private Long todoColumnId;
+    private Long doneColumnId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        Board board = createBoard("A faire", "Terminé");
+        Project project = projectRepository.findById(board.projectId()).orElseThrow();
+        project.setDescription("Description");
+        projectRepository.save(project);
+        Task task = newTask(board.columns().get(0), 0, 1);
+        task.setDetail("Détail");
+        // Valeur historique invalide : elle ne doit pas bloquer un patch qui ne la touche pas.
+        task.setTagColor("blue");
+        taskRepository.save(task);
+
+        projectId = board.projectId();
+        todoColumnId = board.columnId(0);
+        doneColumnId = board.columnId(1);
+        taskId = task.getId();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void patchTask_TitleOnly_WritesOneShortUpdateWithoutLoadingTheColumn() throws Exception {
+        TaskDtoResponse response = taskService.patchTask(projectId, taskId, json("{\"title\":\"Renommée\",\"version\":0}"));
+
+        assertEquals("Renommée", response.getTitle());
+        assertEquals(1L, response.getVersion());
+
+        assertSingleUpdate("task", "title", "version", "updated_date");
+        assertTrue(RecordingStatementInspector.STATEMENTS.stream().noneMatch(sql -> sql.contains("from board_column")),
+                () -> "Colonne chargée : " + RecordingStatementInspector.STATEMENTS);
+    }
+
+    @Test
+    void patchTask_StatusToggle_OnlyWritesStatus() throws Exception {
+        taskService.patchTask(projectId, taskId, json("{\"taskStatus\":\"COMPLETED\"}"));
+
+        assertSingleUpdate("task", "task_status", "version", "updated_date");
+    }
+
+    @Test
+    void patchTask_NullClearsOptionalFieldAndUnchangedValuesAreNotWritten() throws Exception {
+        TaskDtoResponse response = taskService.patchTask(projectId, taskId,
+                json("{\"detail\":null,\"title\":\"Tâche 0\",\"boardColumnId\":" + todoColumnId + "}"));
+
+        assertNull(response.getDetail());
+        assertEquals(todoColumnId, response.getBoardColumnId());
+        assertSingleUpdate("task", "detail", "version", "updated_date");
+    }
+
+    @Test
+    void patchTask_ColumnChange_MovesTaskToTheEndOfTargetColumn() throws Exception {
+        TaskDtoResponse response = taskService.patchTask(projectId, taskId, json("{\"boardColumnId\":" + doneColumnId + "}"));
+
+        assertEquals(doneColumnId, response.getBoardColumnId());
+        assertEquals(doneColumnId, taskRepository.findById(taskId).orElseThrow().getBoardColumn().getId());
+    }
+
+    @Test
+    void patchTask_InvalidPatchedField_IsRejectedBeforeAnyWrite() throws Exception {
+        InvalidMergePatchException blank = assertThrows(InvalidMergePatchException.class,
+                () -> taskService.patchTask(projectId, taskId, json("{\"title\":\" \"}")));
+        assertTrue(blank.getMessage().startsWith("title"), blank.getMessage());
+
+        assertThrows(InvalidMergePatchException.class,
+                () -> taskService.patchTask(projectId, taskId, json("{\"priority\":null}")));
+        assertThrows(InvalidMergePatchException.class,
+                () -> taskService.patchTask(projectId, taskId, json("{\"priority\":\"URGENTISSIME\"}")));
+        assertThrows(InvalidMergePatchException.class,
+                () -> taskService.patchTask(projectId, taskId, json("[]")));
+
+        assertTrue(statements("update").isEmpty());
+    }
+
+    @Test
+    void patchProject_DescriptionOnly_WritesOnlyDescription() throws Exception {
+        ProjectDtoResponse response = projectService.patchProject(projectId, json("{\"description\":\"Nouvelle\"}"));
+
+        assertEquals("Nouvelle", response.getDescription());
+        assertEquals("Projet", response.getName());
+        assertSingleUpdate("project", "description");
+    }
+
+    @Test
+    void patchBoardColumn_Name_WritesOnlyName() throws Exception {
+        boardColumnService.patchBoardColumn(projectId, todoColumnId, json("{\"name\":\"Backlog\",\"version\":0}"));
+
+        assertSingleUpdate("board_column", "name", "version");
+    }
+
+    private JsonNode json(String patch) throws Exception {
+        return objectMapper.readTree(patch);
+    }
+
+    /**
+     * Vérifie qu'un seul UPDATE a été exécuté et que sa clause SET ne porte que sur les colonnes attendues.
+     */
+    private static void assertSingleUpdate(String table, String... columns) {
+        List<String> updates = statements("update");
+        assertEquals(1, updates.size(), () -> "UPDATE exécutés : " + updates);
+        String update = updates.get(0);
+        assertTrue(update.startsWith("update " + table + " "), update);
+        String setClause = update.substring(update.indexOf(" set ") + 5, update.indexOf(" where "));
+        Set<String> written = Arrays.stream(setClause.split(","))
+                .map(assignment -> assignment.substring(0, assignment.indexOf('=')).trim())
+                .map(column -> column.substring(column.indexOf('.') + 1))
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(columns), written, update);
+    }
+
+    private static List<String> statements(String verb) {
+        return RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith(verb))
+                .toList();
+    }
+}
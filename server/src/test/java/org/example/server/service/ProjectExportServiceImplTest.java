@@ -0,0 +1,129 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.server.exception.ProjectNotFoundException;
+import org.example.server.model.*;
+import org.example.server.service.impl.ProjectExportServiceImpl;
+import org.example.server.util.RankGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(ProjectExportServiceImpl.class)
+class ProjectExportServiceImplTest {
+
+    private static final int TASKS_PER_COLUMN = 150;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectExportServiceImpl projectExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportProject_WritesOneLinePerProjectColumnAndTask() throws Exception {
+        User creator = persistUser("creator@example.com");
+        User assignee = persistUser("assignee@example.com");
+        Project project = entityManager.persist(Project.builder()
+                .name("Projet")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .createdBy(creator)
+                .createdDate(LocalDate.now())
+                .build());
+        for (String name : List.of("A faire", "Terminé")) {
+            BoardColumn column = entityManager.persist(BoardColumn.builder()
+                    .name(name)
+                    .project(project)
+                    .createdDate(LocalDate.now())
+                    .build());
+            for (int i = 0; i < TASKS_PER_COLUMN; i++) {
+                entityManager.persist(Task.builder()
+                        .title("Tâche " + i)
+                        .rank(RankGenerator.spread(i, TASKS_PER_COLUMN))
+                        .taskStatus(TaskStatusEnum.NOT_STARTED)
+                        .priority(PriorityEnum.LOW)
+                        .dueDate(LocalDate.now())
+                        .boardColumn(column)
+                        .users(i % 2 == 0 ? new ArrayList<>(List.of(creator, assignee)) : new ArrayList<>())
+                        .tag("tag")
+                        .tagColor("#ffffff")
+                        .createdDate(LocalDate.now())
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        projectExportService.exportProject(project.getId(), out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+
+        assertEquals(1 + 2 + 2 * TASKS_PER_COLUMN, lines.size());
+        assertEquals("project", lines.get(0).get("type").asText());
+        assertEquals("creator@example.com", lines.get(0).get("createdBy").asText());
+        assertEquals("column", lines.get(1).get("type").asText());
+        assertEquals("column", lines.get(2).get("type").asText());
+
+        List<JsonNode> tasks = lines.subList(3, lines.size());
+        assertTrue(tasks.stream().allMatch(task -> "task".equals(task.get("type").asText())));
+        assertEquals(2 * TASKS_PER_COLUMN, tasks.stream().map(task -> task.get("id").asLong()).distinct().count());
+        assertEquals(2 * TASKS_PER_COLUMN, tasks.stream().mapToInt(task -> task.get("assignees").size()).sum());
+
+        // Uniquement des projections : aucune entité chargée dans le contexte de persistance.
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void exportProject_UnknownProject_ThrowsBeforeWriting() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(ProjectNotFoundException.class, () -> projectExportService.exportProject(-1L, out));
+        assertEquals(0, out.size());
+    }
+
+    private User persistUser(String email) {
+        return entityManager.persist(User.builder()
+                .firstName("Prénom")
+                .lastName("Nom")
+                .email(email)
+                .password("secret")
+                .position(PositionEnum.DEVELOPER)
+                .createdDate(LocalDate.now())
+                .build());
+    }
+}
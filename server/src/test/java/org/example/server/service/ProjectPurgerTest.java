@@ -0,0 +1,100 @@
+package org.example.server.service;
+
+import org.example.server.exception.ProjectNotFoundException;
+import org.example.server.mapper.BoardColumnMapper;
+import org.example.server.mapper.ProjectMapper;
+import org.example.server.mapper.SharedMapper;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.BoardColumn;
+import org.example.server.model.Project;
+import org.example.server.model.RoleEnum;
+import org.example.server.model.User;
+import org.example.server.security.ProjectRoleCache;
+import org.example.server.service.impl.ProjectPurger;
+import org.example.server.service.impl.ProjectServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "app.project-purge.batch-size=10")
+@Import({ProjectServiceImpl.class, ProjectPurger.class, ProjectRoleCache.class,
+        ProjectMapper.class, SharedMapper.class, BoardColumnMapper.class, TaskMapper.class})
+class ProjectPurgerTest extends AbstractBoardJpaTest {
+
+    private static final int TASKS = 25;
+
+    @Autowired
+    private ProjectServiceImpl projectService;
+
+    @Autowired
+    private ProjectPurger projectPurger;
+
+    private Long memberId;
+    private Long projectId;
+    private Long keptProjectId;
+
+    @BeforeEach
+    void setUp() {
+        Board board = createBoard("A faire", "Terminé");
+        User member = userRepository.save(newUser());
+        Project kept = projectRepository.save(newProject("Conservé", board.creator()));
+        userProjectRepository.saveAll(List.of(
+                newMembership(board.creator(), board.project(), RoleEnum.ADMIN),
+                newMembership(member, board.project(), RoleEnum.MEMBER),
+                newMembership(member, kept, RoleEnum.MEMBER)));
+        BoardColumn keptColumn = boardColumnRepository.save(newColumn("A faire", kept));
+
+        createTasks(board.columns().get(0), TASKS - TASKS / 2).forEach(taskId -> assign(taskId, member.getId()));
+        createTasks(board.columns().get(1), TASKS / 2).forEach(taskId -> assign(taskId, member.getId()));
+        createTasks(keptColumn, 1).forEach(taskId -> assign(taskId, member.getId()));
+
+        memberId = member.getId();
+        projectId = board.projectId();
+        keptProjectId = kept.getId();
+    }
+
+    @Test
+    void deleteProject_HidesProjectImmediatelyWithoutTouchingItsContent() {
+        projectService.deleteProject(projectId);
+
+        assertTrue(projectRepository.findById(projectId).isEmpty());
+        assertTrue(userProjectRepository.findRolesByUserIdAndProjectId(memberId, projectId).isEmpty());
+        assertEquals(List.of(keptProjectId), projectRepository
+                .findProjectSummariesByUserId(memberId, PageRequest.of(0, 10)).map(summary -> summary.getId()).getContent());
+        assertEquals(TASKS + 1, taskRepository.count());
+        assertEquals(List.of(projectId), projectRepository.findSoftDeletedIds());
+
+        assertThrows(ProjectNotFoundException.class, () -> projectService.deleteProject(projectId));
+    }
+
+    @Test
+    void purge_DeletesTasksColumnsAndMembershipsOfDeletedProjectOnly() {
+        userRepository.findById(memberId);
+        assertTrue(entityManagerFactory.getCache().contains(User.class, memberId));
+
+        projectService.deleteProject(projectId);
+        projectPurger.purgeDeletedProjects();
+
+        assertTrue(projectRepository.findSoftDeletedIds().isEmpty());
+        assertEquals(0, count("SELECT COUNT(*) FROM project WHERE id = ?", projectId));
+        assertEquals(0, count("SELECT COUNT(*) FROM board_column WHERE project_id = ?", projectId));
+        assertEquals(0, count("SELECT COUNT(*) FROM user_project WHERE project_id = ?", projectId));
+        assertEquals(1, taskRepository.count());
+        assertEquals(1, count("SELECT COUNT(*) FROM user_task WHERE user_id = ?", memberId));
+        assertTrue(projectRepository.findById(keptProjectId).isPresent());
+        assertEquals(1, userProjectRepository.findRolesByUserIdAndProjectId(memberId, keptProjectId).size());
+        // Les suppressions ensemblistes n'invalident que les régions concernées.
+        assertTrue(entityManagerFactory.getCache().contains(User.class, memberId));
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.server.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.server.dto.response.ProjectDtoResponse;
+import org.example.server.dto.response.ProjectSummaryDtoResponse;
+import org.example.server.dto.response.TaskPageDtoResponse;
+import org.example.server.dto.response.TaskSimplifiedDtoResponse;
+import org.example.server.exception.BoardColumnNotFoundException;
+import org.example.server.exception.InvalidPageCursorException;
+import org.example.server.mapper.BoardColumnMapper;
+import org.example.server.mapper.ProjectMapper;
+import org.example.server.mapper.SharedMapper;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.*;
+import org.example.server.security.ProjectRoleCache;
+import org.example.server.repository.ProjectRepository;
+import org.example.server.repository.TaskRepository;
+import org.example.server.service.impl.ProjectServiceImpl;
+import org.example.server.service.impl.TaskRankRebalancer;
+import org.example.server.service.impl.TaskServiceImpl;
+import org.example.server.util.RankGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ProjectServiceImpl.class, TaskServiceImpl.class, TaskRankRebalancer.class, ProjectRoleCache.class,
+        ProjectMapper.class, SharedMapper.class, BoardColumnMapper.class, TaskMapper.class})
+class ProjectReadQueriesTest {
+
+    private static final int COLUMNS = 4;
+    private static final int TASKS = 500;
+    private static final int MEMBERS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectServiceImpl projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long projectId;
+    private Long creatorId;
+    private Long firstColumnId;
+    private Long emptyColumnId;
+    private Long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        User creator = persistUser("creator@example.com");
+        Project project = entityManager.persist(Project.builder()
+                .name("Projet")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .createdBy(creator)
+                .createdDate(LocalDate.now())
+                .build());
+
+        for (int i = 0; i < MEMBERS; i++) {
+            entityManager.persist(UserProject.builder()
+                    .user(i == 0 ? creator : persistUser("member" + i + "@example.com"))
+                    .project(project)
+                    .userAddAt(LocalDate.now())
+                    .role(i == 0 ? RoleEnum.ADMIN : RoleEnum.MEMBER)
+                    .createdDate(LocalDate.now())
+                    .build());
+        }
+
+        BoardColumn[] columns = new BoardColumn[COLUMNS];
+        for (int i = 0; i < COLUMNS; i++) {
+            columns[i] = entityManager.persist(BoardColumn.builder()
+                    .name("Colonne " + i)
+                    .project(project)
+                    .createdDate(LocalDate.now())
+                    .build());
+        }
+        for (int i = 0; i < TASKS; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Tâche " + i)
+                    .rank(RankGenerator.spread((i * 7) % TASKS, TASKS))
+                    .taskStatus(i % 5 == 0 ? TaskStatusEnum.COMPLETED : TaskStatusEnum.NOT_STARTED)
+                    .priority(PriorityEnum.MEDIUM)
+                    .dueDate(LocalDate.now().plusDays(i % 30))
+                    .boardColumn(columns[i % COLUMNS])
+                    .tag("tag")
+                    .tagColor("#ffffff")
+                    .createdDate(LocalDate.now())
+                    .build());
+        }
+
+        BoardColumn emptyColumn = entityManager.persist(BoardColumn.builder()
+                .name("Vide")
+                .project(entityManager.persist(Project.builder()
+                        .name("Autre projet")
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusMonths(1))
+                        .createdBy(creator)
+                        .createdDate(LocalDate.now())
+                        .build()))
+                .createdDate(LocalDate.now())
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+        projectId = project.getId();
+        firstColumnId = columns[0].getId();
+        emptyColumnId = emptyColumn.getId();
+        otherProjectId = emptyColumn.getProject().getId();
+        creatorId = creator.getId();
+    }
+
+    @Test
+    void getProjectById_LoadsWholeBoardInConstantQueryCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProjectDtoResponse response = projectService.getProjectById(projectId);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(COLUMNS, response.getBoardColumns().size());
+        assertEquals(MEMBERS, response.getUsers().size());
+        assertEquals(TASKS, response.getBoardColumns().stream()
+                .mapToInt(column -> column.getTasks().size())
+                .sum());
+    }
+
+    @Test
+    void findProjectSummariesByUserId_CountsWithoutLoadingBoardEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ProjectSummaryDtoResponse> page =
+                projectRepository.findProjectSummariesByUserId(creatorId, PageRequest.of(0, 20));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, page.getTotalElements());
+        ProjectSummaryDtoResponse summary = page.getContent().get(0);
+        assertEquals(RoleEnum.ADMIN, summary.getRole());
+        assertEquals(creatorId, summary.getCreatedBy().getId());
+        assertEquals(MEMBERS, summary.getMemberCount());
+        assertEquals(TASKS / 5, summary.getCompletedTaskCount());
+        assertEquals(TASKS - TASKS / 5, summary.getNotStartedTaskCount());
+        assertEquals(0, summary.getInProgressTaskCount());
+    }
+
+    @Test
+    void findTaskSummariesByBoardColumnId_ChecksColumnInSameQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskSimplifiedDtoResponse> rows = taskRepository.findTaskSummariesByBoardColumnId(projectId, firstColumnId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(TASKS / COLUMNS, rows.size());
+
+        List<TaskSimplifiedDtoResponse> emptyRows =
+                taskRepository.findTaskSummariesByBoardColumnId(otherProjectId, emptyColumnId);
+        assertEquals(1, emptyRows.size());
+        assertNull(emptyRows.get(0).getId());
+
+        assertTrue(taskRepository.findTaskSummariesByBoardColumnId(projectId, emptyColumnId).isEmpty());
+    }
+
+    @Test
+    void getTaskPage_WalksColumnInStableOrder() {
+        List<TaskSimplifiedDtoResponse> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TaskPageDtoResponse page = taskService.getTaskPage(projectId, firstColumnId, cursor, 40);
+            seen.addAll(page.getTasks());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(4, pages);
+        assertEquals(TASKS / COLUMNS, seen.size());
+        assertEquals(seen.stream()
+                        .sorted(Comparator.comparing(TaskSimplifiedDtoResponse::getRank)
+                                .thenComparing(TaskSimplifiedDtoResponse::getId))
+                        .toList(),
+                seen);
+        assertTrue(taskService.getTaskPage(otherProjectId, emptyColumnId, null, 40).getTasks().isEmpty());
+        assertThrows(BoardColumnNotFoundException.class,
+                () -> taskService.getTaskPage(projectId, emptyColumnId, null, 40));
+        assertThrows(InvalidPageCursorException.class,
+                () -> taskService.getTaskPage(projectId, firstColumnId, "pas-un-curseur", 40));
+    }
+
+    private User persistUser(String email) {
+        return entityManager.persist(User.builder()
+                .firstName("Prénom")
+                .lastName("Nom")
+                .email(email)
+                .password("secret")
+                .position(PositionEnum.values()[0])
+                .createdDate(LocalDate.now())
+                .build());
+    }
+}
@@ -5,9 +5,11 @@ import org.example.server.dto.response.ProjectDtoResponse;
 import org.example.server.exception.*;
 import org.example.server.mapper.ProjectMapper;
 import org.example.server.model.*;
+import org.example.server.repository.BoardColumnRepository;
 import org.example.server.repository.ProjectRepository;
 import org.example.server.repository.UserProjectRepository;
 import org.example.server.repository.UserRepository;
+import org.example.server.security.ProjectRoleCache;
 import org.example.server.service.impl.ProjectServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +21,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +38,9 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private BoardColumnRepository boardColumnRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -44,6 +50,9 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private ProjectRoleCache projectRoleCache;
+
     @Spy
     @InjectMocks
     private ProjectServiceImpl projectService;
@@ -90,8 +99,8 @@ class ProjectServiceImplTest {
         when(projectRepository.save(any(Project.class)))
                 .thenReturn(savedProject);
 
-        when(projectRepository.findById(1L))
-                .thenReturn(Optional.of(savedProject));
+        when(projectRepository.getReferenceById(1L))
+                .thenReturn(savedProject);
 
         when(projectMapper.projectToProjectDtoResponse(any(Project.class)))
                 .thenReturn(dtoResponse);
@@ -104,7 +113,8 @@ class ProjectServiceImplTest {
         assertEquals("Description", result.getDescription());
 
         verify(projectRepository, times(1)).save(any(Project.class));
-        verify(projectRepository, times(1)).findById(1L);
+        verify(projectRepository, times(1)).getReferenceById(1L);
+        verify(projectRepository, never()).findById(anyLong());
         verify(userRepository, atLeast(2)).findByEmail("admin@example.com");
         verify(projectMapper, times(1)).projectToProjectDtoResponse(any(Project.class));
     }
@@ -170,23 +180,23 @@ class ProjectServiceImplTest {
 
     @Test
     void deleteProject_Success() {
-        Project existingProject = new Project();
-        existingProject.setId(1L);
-
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(existingProject));
+        when(projectRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         projectService.deleteProject(1L);
 
-        verify(projectRepository, times(1)).delete(any(Project.class));
+        verify(projectRepository, times(1)).softDeleteById(eq(1L), any(LocalDateTime.class));
+        verify(projectRepository, never()).delete(any(Project.class));
+        verify(projectRoleCache, times(1)).invalidateProject(1L);
     }
 
     @Test
     void deleteProject_NotFound_ThrowsException() {
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(projectRepository.softDeleteById(anyLong(), any(LocalDateTime.class))).thenReturn(0);
 
         assertThrows(ProjectNotFoundException.class, () -> {
             projectService.deleteProject(1L);
         });
+        verify(projectRoleCache, never()).invalidateProject(anyLong());
     }
 
     @Test
@@ -194,13 +204,14 @@ class ProjectServiceImplTest {
         Project project = new Project();
         User user = new User();
 
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
+        when(projectRepository.getReferenceById(anyLong())).thenReturn(project);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
         when(userProjectRepository.findByUserAndProject(any(User.class), any(Project.class))).thenReturn(Optional.empty());
 
         projectService.addUserToProject(1L, "user@example.com", RoleEnum.ADMIN);
 
         verify(userProjectRepository, times(1)).save(any(UserProject.class));
+        verify(projectRoleCache, times(1)).invalidate(user.getId(), 1L);
     }
 
     @Test
@@ -208,7 +219,7 @@ class ProjectServiceImplTest {
         Project project = new Project();
         User user = new User();
 
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
+        when(projectRepository.getReferenceById(anyLong())).thenReturn(project);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
         when(userProjectRepository.findByUserAndProject(any(User.class), any(Project.class))).thenReturn(Optional.of(new UserProject()));
 
@@ -222,19 +233,21 @@ class ProjectServiceImplTest {
         Project project = new Project();
         project.setId(1L);
 
-        when(projectRepository.findByIdWithColumns(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findBoardById(1L)).thenReturn(Optional.of(project));
         when(projectMapper.projectToProjectDtoResponse(project)).thenReturn(new ProjectDtoResponse());
 
         ProjectDtoResponse response = projectService.getProjectById(1L);
 
         assertNotNull(response);
-        verify(projectRepository, times(1)).findByIdWithColumns(1L);
+        verify(projectRepository, times(1)).findBoardById(1L);
+        verify(projectRepository, times(1)).findWithMembersById(1L);
+        verify(boardColumnRepository, times(1)).findAllWithTasksByProjectId(1L);
     }
 
 
     @Test
     void getProjectById_NotFound_ThrowsException() {
-        when(projectRepository.findByIdWithColumns(anyLong())).thenReturn(Optional.empty());
+        when(projectRepository.findBoardById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ProjectNotFoundException.class, () -> {
             projectService.getProjectById(1L);
@@ -0,0 +1,88 @@
+package org.example.server.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.server.model.*;
+import org.example.server.repository.TaskRepository;
+import org.example.server.util.RankGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+class TaskBatchInsertTest {
+
+    private static final int TASKS = 500;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void saveAll_InsertsTasksInJdbcBatches() {
+        User creator = entityManager.persist(User.builder()
+                .firstName("Prénom")
+                .lastName("Nom")
+                .email("batch@example.com")
+                .password("secret")
+                .position(PositionEnum.DEVELOPER)
+                .createdDate(LocalDate.now())
+                .build());
+        Project project = entityManager.persist(Project.builder()
+                .name("Projet")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .createdBy(creator)
+                .createdDate(LocalDate.now())
+                .build());
+        BoardColumn column = entityManager.persist(BoardColumn.builder()
+                .name("Backlog")
+                .project(project)
+                .createdDate(LocalDate.now())
+                .build());
+        entityManager.flush();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .title("Tâche " + i)
+                    .rank(RankGenerator.spread(i, TASKS))
+                    .taskStatus(TaskStatusEnum.NOT_STARTED)
+                    .priority(PriorityEnum.LOW)
+                    .dueDate(LocalDate.now())
+                    .boardColumn(column)
+                    .tag("tag")
+                    .tagColor("#ffffff")
+                    .createdDate(LocalDate.now())
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+
+        // Avec IDENTITY : une requête par ligne. Avec la séquence pooled-lo et batch_size=50 :
+        // une lecture de séquence par bloc de 50 et un INSERT préparé par lot.
+        assertEquals(TASKS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 3L * TASKS / 50,
+                "requêtes préparées : " + statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.server.service;
+
+import org.example.server.dto.request.TaskBatchDtoRequest;
+import org.example.server.dto.request.TaskDtoRequest;
+import org.example.server.dto.request.TaskOperationDtoRequest;
+import org.example.server.dto.response.TaskBatchDtoResponse;
+import org.example.server.dto.response.TaskOperationResultDtoResponse;
+import org.example.server.dto.response.TaskOperationResultDtoResponse.Status;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.TaskStatusEnum;
+import org.example.server.service.impl.TaskRankRebalancer;
+import org.example.server.service.impl.TaskServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({TaskServiceImpl.class, TaskRankRebalancer.class, TaskMapper.class})
+class TaskBatchTest extends AbstractBoardJpaTest {
+
+    private static final int TASKS = 40;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    private Long projectId;
+    private Long doneColumnId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        Board board = createBoard("A faire", "Terminé");
+        projectId = board.projectId();
+        doneColumnId = board.columnId(1);
+        taskIds = createTasks(board.columns().get(0), TASKS);
+        assign(taskIds.get(30), board.creator().getId());
+    }
+
+    @Test
+    void applyBatch_AppliesOperationsAndReportsEachResult() {
+        List<TaskOperationDtoRequest> operations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            operations.add(TaskOperationDtoRequest.builder()
+                    .type(TaskOperationDtoRequest.Type.UPDATE)
+                    .taskId(taskIds.get(i))
+                    .version(0L)
+                    .changes(TaskDtoRequest.builder().taskStatus(TaskStatusEnum.COMPLETED).build())
+                    .build());
+        }
+        for (int i = 20; i < 30; i++) {
+            operations.add(TaskOperationDtoRequest.builder()
+                    .type(TaskOperationDtoRequest.Type.MOVE)
+                    .taskId(taskIds.get(i))
+                    .boardColumnId(doneColumnId)
+                    .build());
+        }
+        operations.add(TaskOperationDtoRequest.builder()
+                .type(TaskOperationDtoRequest.Type.DELETE)
+                .taskId(taskIds.get(30))
+                .build());
+        operations.add(TaskOperationDtoRequest.builder()
+                .type(TaskOperationDtoRequest.Type.UPDATE)
+                .taskId(taskIds.get(31))
+                .version(7L)
+                .changes(TaskDtoRequest.builder().title("Périmée").build())
+                .build());
+        operations.add(TaskOperationDtoRequest.builder()
+                .type(TaskOperationDtoRequest.Type.MOVE)
+                .taskId(-1L)
+                .boardColumnId(doneColumnId)
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TaskBatchDtoResponse response = taskService.applyBatch(projectId, new TaskBatchDtoRequest(operations));
+
+        List<TaskOperationResultDtoResponse> results = response.getResults();
+        assertEquals(operations.size(), results.size());
+        for (int i = 0; i < 31; i++) {
+            assertEquals(Status.APPLIED, results.get(i).getStatus(), "opération " + i);
+        }
+        assertEquals(1L, results.get(0).getTask().getVersion());
+        assertEquals(TaskStatusEnum.COMPLETED.name(), results.get(0).getTask().getTaskStatus());
+        assertEquals(doneColumnId, results.get(20).getTask().getBoardColumnId());
+        assertEquals(Status.CONFLICT, results.get(31).getStatus());
+        assertEquals(0L, results.get(31).getTask().getVersion());
+        assertEquals(Status.NOT_FOUND, results.get(32).getStatus());
+
+        // Chargement groupé, un MAX(rank) par colonne cible, UPDATE et DELETE par lots JDBC.
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "requêtes préparées : " + statistics.getPrepareStatementCount());
+
+        assertFalse(taskRepository.existsById(taskIds.get(30)));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_task", Long.class));
+        assertEquals("Tâche 31", taskRepository.findById(taskIds.get(31)).orElseThrow().getTitle());
+        List<String> movedRanks = taskIds.subList(20, 30).stream()
+                .map(id -> taskRepository.findById(id).orElseThrow().getRank())
+                .toList();
+        assertEquals(movedRanks.stream().sorted().toList(), movedRanks);
+    }
+
+    @Test
+    void applyBatch_RejectedOperationLeavesTaskUntouched() {
+        TaskOperationDtoRequest operation = TaskOperationDtoRequest.builder()
+                .type(TaskOperationDtoRequest.Type.UPDATE)
+                .taskId(taskIds.get(0))
+                .changes(TaskDtoRequest.builder().title("Renommée").boardColumnId(-1L).build())
+                .build();
+
+        TaskBatchDtoResponse response = taskService.applyBatch(projectId, new TaskBatchDtoRequest(List.of(operation)));
+
+        assertEquals(Status.NOT_FOUND, response.getResults().get(0).getStatus());
+        assertEquals("Tâche 0", taskRepository.findById(taskIds.get(0)).orElseThrow().getTitle());
+    }
+
+    @Test
+    void applyBatch_InvalidChangesAreRejectedPerOperation() {
+        List<TaskOperationDtoRequest> operations = List.of(
+                TaskOperationDtoRequest.builder()
+                        .type(TaskOperationDtoRequest.Type.UPDATE)
+                        .taskId(taskIds.get(0))
+                        .changes(TaskDtoRequest.builder().title(" ").tagColor("rouge").build())
+                        .build(),
+                TaskOperationDtoRequest.builder()
+                        .type(TaskOperationDtoRequest.Type.UPDATE)
+                        .taskId(taskIds.get(1))
+                        .changes(TaskDtoRequest.builder().title("Renommée").build())
+                        .build());
+
+        TaskBatchDtoResponse response = taskService.applyBatch(projectId, new TaskBatchDtoRequest(operations));
+
+        TaskOperationResultDtoResponse rejected = response.getResults().get(0);
+        assertEquals(Status.INVALID, rejected.getStatus());
+        assertTrue(rejected.getMessage().contains("title") && rejected.getMessage().contains("tagColor"),
+                rejected.getMessage());
+        assertEquals(Status.APPLIED, response.getResults().get(1).getStatus());
+        assertEquals("Tâche 0", taskRepository.findById(taskIds.get(0)).orElseThrow().getTitle());
+        assertEquals(0L, taskRepository.findById(taskIds.get(0)).orElseThrow().getVersion());
+        assertEquals("Renommée", taskRepository.findById(taskIds.get(1)).orElseThrow().getTitle());
+    }
+
+    @Test
+    void applyBatch_LaterOperationsOnTheSameTaskSeeTheIncrementedVersion() {
+        Long taskId = taskIds.get(0);
+        List<TaskOperationDtoRequest> operations = List.of(
+                TaskOperationDtoRequest.builder()
+                        .type(TaskOperationDtoRequest.Type.MOVE)
+                        .taskId(taskId)
+                        .version(0L)
+                        .previousTaskId(taskIds.get(1))
+                        .nextTaskId(taskIds.get(2))
+                        .build(),
+                TaskOperationDtoRequest.builder()
+                        .type(TaskOperationDtoRequest.Type.UPDATE)
+                        .taskId(taskId)
+                        .version(1L)
+                        .changes(TaskDtoRequest.builder().title("Renommée").build())
+                        .build(),
+                TaskOperationDtoRequest.builder()
+                        .type(TaskOperationDtoRequest.Type.UPDATE)
+                        .taskId(taskId)
+                        .version(0L)
+                        .changes(TaskDtoRequest.builder().title("Périmée").build())
+                        .build());
+
+        TaskBatchDtoResponse response = taskService.applyBatch(projectId, new TaskBatchDtoRequest(operations));
+
+        List<TaskOperationResultDtoResponse> results = response.getResults();
+        assertEquals(Status.APPLIED, results.get(0).getStatus());
+        assertEquals(Status.APPLIED, results.get(1).getStatus());
+        assertEquals(Status.CONFLICT, results.get(2).getStatus());
+        assertEquals(1L, results.get(1).getTask().getVersion());
+
+        // Même version côté client et en base : une écriture suivante avec la version 1 passe.
+        assertEquals(1L, taskRepository.findById(taskId).orElseThrow().getVersion());
+        TaskOperationDtoRequest next = TaskOperationDtoRequest.builder()
+                .type(TaskOperationDtoRequest.Type.UPDATE)
+                .taskId(taskId)
+                .version(1L)
+                .changes(TaskDtoRequest.builder().taskStatus(TaskStatusEnum.COMPLETED).build())
+                .build();
+        assertEquals(Status.APPLIED, taskService.applyBatch(projectId, new TaskBatchDtoRequest(List.of(next)))
+                .getResults().get(0).getStatus());
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.server.service;
+
+import org.example.server.dto.response.TaskImportErrorDtoResponse;
+import org.example.server.dto.response.TaskImportReportDtoResponse;
+import org.example.server.exception.BoardColumnNotFoundException;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.*;
+import org.example.server.repository.TaskRepository;
+import org.example.server.service.impl.TaskImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "app.task-import.batch-size=100"})
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TaskImportServiceImpl.class, TaskMapper.class})
+class TaskImportServiceImplTest {
+
+    private static final int VALID_ROWS = 250;
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskImportServiceImpl taskImportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long projectId;
+    private Long columnId;
+
+    @BeforeEach
+    void setUp() {
+        User creator = entityManager.persist(User.builder()
+                .firstName("Prénom")
+                .lastName("Nom")
+                .email("import@example.com")
+                .password("secret")
+                .position(PositionEnum.DEVELOPER)
+                .createdDate(LocalDate.now())
+                .build());
+        Project project = entityManager.persist(Project.builder()
+                .name("Projet")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .createdBy(creator)
+                .createdDate(LocalDate.now())
+                .build());
+        BoardColumn column = entityManager.persist(BoardColumn.builder()
+                .name("Backlog")
+                .project(project)
+                .createdDate(LocalDate.now())
+                .build());
+        entityManager.flush();
+        projectId = project.getId();
+        columnId = column.getId();
+    }
+
+    @Test
+    void importTasks_InsertsValidRowsAndReportsInvalidOnes() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < VALID_ROWS; i++) {
+            ndjson.append(row("Tâche " + i, "#00ff00")).append('\n');
+            if (i == 10) {
+                ndjson.append("{pas du json\n");
+            }
+            if (i == 120) {
+                ndjson.append(row("", "#00ff00")).append('\n');
+            }
+            if (i == 200) {
+                ndjson.append('\n').append(row("Couleur", "vert")).append('\n');
+            }
+        }
+
+        TaskImportReportDtoResponse report = taskImportService.importTasks(projectId, columnId, stream(ndjson));
+
+        assertEquals(VALID_ROWS, report.getImported());
+        assertEquals(3, report.getRejected());
+        assertEquals(List.of(12L, 123L, 205L), report.getErrors().stream().map(TaskImportErrorDtoResponse::getLine).toList());
+        assertTrue(report.getErrors().get(2).getErrors().get(0).startsWith("tagColor"));
+        assertEquals(VALID_ROWS, taskRepository.findFirstTaskPage(projectId, columnId, Limit.of(VALID_ROWS + 1)).size());
+    }
+
+    @Test
+    void importTasks_UnknownColumn_ThrowsException() {
+        assertThrows(BoardColumnNotFoundException.class,
+                () -> taskImportService.importTasks(projectId, columnId + 1, stream(new StringBuilder())));
+    }
+
+    private static String row(String title, String tagColor) {
+        return "{\"title\":\"" + title + "\",\"priority\":\"HIGH\",\"taskStatus\":\"NOT_STARTED\","
+                + "\"dueDate\":\"2030-01-15\",\"tag\":\"migration\",\"tagColor\":\"" + tagColor + "\"}";
+    }
+
+    private static InputStream stream(StringBuilder ndjson) {
+        return new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.server.service;
+
+import org.example.server.dto.request.TaskDtoRequest;
+import org.example.server.dto.response.TaskDtoResponse;
+import org.example.server.exception.VersionConflictException;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.service.impl.TaskRankRebalancer;
+import org.example.server.service.impl.TaskServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({TaskServiceImpl.class, TaskRankRebalancer.class, TaskMapper.class})
+class TaskOptimisticLockingTest extends AbstractBoardJpaTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long projectId;
+    private Long todoColumnId;
+    private Long doneColumnId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        Board board = createBoard("A faire", "Terminé");
+        projectId = board.projectId();
+        todoColumnId = board.columnId(0);
+        doneColumnId = board.columnId(1);
+        taskId = createTasks(board.columns().get(0), 1).get(0);
+    }
+
+    @Test
+    void moveTaskToColumn_StaleVersion_ThrowsConflictWithCurrentState() {
+        TaskDtoResponse moved = taskService.moveTaskToColumn(projectId, taskId, doneColumnId, 0L);
+        assertEquals(1L, moved.getVersion());
+        assertEquals(doneColumnId, moved.getBoardColumnId());
+
+        VersionConflictException conflict = assertThrows(VersionConflictException.class,
+                () -> taskService.moveTaskToColumn(projectId, taskId, todoColumnId, 0L));
+
+        TaskDtoResponse current = (TaskDtoResponse) conflict.getCurrent();
+        assertEquals(1L, current.getVersion());
+        assertEquals(doneColumnId, current.getBoardColumnId());
+    }
+
+    @Test
+    void updateTask_LostRaceAtFlush_ReadsCurrentStateAfterRollback() {
+        // La transaction englobante garde la tâche en version 0 dans son contexte de persistance :
+        // la vérification de version passe, et l'UPDATE versionné perd la course au flush.
+        VersionConflictException conflict = assertThrows(VersionConflictException.class,
+                () -> new TransactionTemplate(transactionManager).execute(status -> {
+                    taskRepository.findById(taskId).orElseThrow();
+                    commitElsewhere(() -> edit(0, 0, 0L));
+                    return taskService.updateTask(projectId, taskId, TaskDtoRequest.builder()
+                            .title("Perdante")
+                            .boardColumnId(todoColumnId)
+                            .version(0L)
+                            .build());
+                }));
+
+        // L'état du 409 est lu une fois la transaction perdante annulée, pas pendant.
+        commitElsewhere(() -> move(1L));
+        TaskDtoResponse current = (TaskDtoResponse) conflict.getCurrent();
+        assertEquals(2L, current.getVersion());
+        assertEquals("Modifiée 0-0", current.getTitle());
+    }
+
+    @Test
+    void concurrentMovesAndEdits_NoUpdateIsLost() throws Exception {
+        Set<Long> appliedOnVersions = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int worker = t;
+            boolean edits = t % 2 == 0;
+            workers.add(executor.submit(() -> {
+                start.await();
+                long version = taskService.getTaskById(projectId, taskId).getVersion();
+                int applied = 0;
+                while (applied < UPDATES_PER_THREAD) {
+                    try {
+                        TaskDtoResponse result = edits ? edit(worker, applied, version) : move(version);
+                        assertTrue(appliedOnVersions.add(version), "Deux écritures acceptées sur la version " + version);
+                        version = result.getVersion();
+                        applied++;
+                    } catch (VersionConflictException e) {
+                        version = ((TaskDtoResponse) e.getCurrent()).getVersion();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        long expectedWrites = (long) THREADS * UPDATES_PER_THREAD;
+        assertEquals(expectedWrites, taskService.getTaskById(projectId, taskId).getVersion());
+        assertEquals(LongStream.range(0, expectedWrites).boxed().collect(Collectors.toSet()), appliedOnVersions);
+    }
+
+    private static void commitElsewhere(Callable<TaskDtoResponse> update) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(update).get(1, TimeUnit.MINUTES);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private TaskDtoResponse move(long version) {
+        Long target = ThreadLocalRandom.current().nextBoolean() ? todoColumnId : doneColumnId;
+        return taskService.moveTaskToColumn(projectId, taskId, target, version);
+    }
+
+    private TaskDtoResponse edit(int worker, int attempt, long version) {
+        TaskDtoRequest request = TaskDtoRequest.builder()
+                .title("Modifiée " + worker + "-" + attempt)
+                .boardColumnId(todoColumnId)
+                .version(version)
+                .build();
+        return taskService.updateTask(projectId, taskId, request);
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.server.service;
+
+import org.example.server.dto.request.TaskReorderDtoRequest;
+import org.example.server.dto.response.TaskSimplifiedDtoResponse;
+import org.example.server.exception.InvalidTaskPositionException;
+import org.example.server.mapper.TaskMapper;
+import org.example.server.model.Task;
+import org.example.server.service.impl.TaskRankRebalancer;
+import org.example.server.service.impl.TaskServiceImpl;
+import org.example.server.util.RankGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({TaskServiceImpl.class, TaskRankRebalancer.class, TaskMapper.class})
+class TaskReorderTest extends AbstractBoardJpaTest {
+
+    private static final int TASKS = 1000;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private TaskRankRebalancer taskRankRebalancer;
+
+    private Long projectId;
+    private Long columnId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        Board board = createBoard("Backlog");
+        projectId = board.projectId();
+        columnId = board.columnId(0);
+        taskIds = createTasks(board.columns().get(0), TASKS);
+    }
+
+    @Test
+    void reorderTask_WritesOnlyTheMovedRow() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Long last = taskIds.get(TASKS - 1);
+        taskService.reorderTask(projectId, columnId, last, reorder(taskIds.get(0), taskIds.get(1)));
+
+        // Existence de la colonne, voisins avant verrou, verrou partagé du tableau, voisins sous
+        // verrou, UPDATE conditionnel, relecture.
+        assertEquals(6, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(List.of(taskIds.get(0), last, taskIds.get(1)), orderedIds().subList(0, 3));
+    }
+
+    @Test
+    void reorderTask_LongRanksAreRebalancedInOrder() {
+        Long first = taskIds.get(0);
+        Long next = taskIds.get(1);
+        for (int i = 0; i < 150; i++) {
+            Long moved = taskIds.get(TASKS - 1 - i);
+            taskService.reorderTask(projectId, columnId, moved, reorder(first, next));
+            next = moved;
+        }
+        List<Long> before = orderedIds();
+        assertTrue(taskRepository.findAll().stream().anyMatch(task -> task.getRank().length() > 24));
+
+        taskRankRebalancer.rebalancePendingColumns();
+
+        assertEquals(before, orderedIds());
+        assertTrue(taskRepository.findAll().stream()
+                .allMatch(task -> task.getRank().length() == RankGenerator.WIDTH));
+    }
+
+    @Test
+    void reorderTask_EqualNeighbourRanksAreSeparated() {
+        Task second = taskRepository.findById(taskIds.get(1)).orElseThrow();
+        second.setRank(taskRepository.findById(taskIds.get(0)).orElseThrow().getRank());
+        taskRepository.save(second);
+
+        Long last = taskIds.get(TASKS - 1);
+        taskService.reorderTask(projectId, columnId, last, reorder(taskIds.get(0), taskIds.get(1)));
+
+        assertEquals(List.of(taskIds.get(0), last, taskIds.get(1)), orderedIds().subList(0, 3));
+    }
+
+    @Test
+    void reorderTask_ToTopOfAllZeroKey_RebalancesFirst() {
+        jdbcTemplate.update("UPDATE task SET task_rank = '000000' WHERE id = ?", taskIds.get(0));
+
+        Long last = taskIds.get(TASKS - 1);
+        taskService.reorderTask(projectId, columnId, last, reorder(null, taskIds.get(0)));
+
+        assertEquals(List.of(last, taskIds.get(0), taskIds.get(1)), orderedIds().subList(0, 3));
+        assertTrue(taskRepository.findAll().stream().allMatch(task -> RankGenerator.hasRankBefore(task.getRank())));
+    }
+
+    @Test
+    void reorderTask_NeighboursInWrongOrder_ThrowsException() {
+        assertThrows(InvalidTaskPositionException.class, () -> taskService.reorderTask(
+                projectId, columnId, taskIds.get(5), reorder(taskIds.get(2), taskIds.get(1))));
+    }
+
+    private List<Long> orderedIds() {
+        return taskService.getTaskPage(projectId, columnId, null, TASKS).getTasks().stream()
+                .map(TaskSimplifiedDtoResponse::getId)
+                .toList();
+    }
+
+    private static TaskReorderDtoRequest reorder(Long previousTaskId, Long nextTaskId) {
+        return TaskReorderDtoRequest.builder()
+                .previousTaskId(previousTaskId)
+                .nextTaskId(nextTaskId)
+                .build();
+    }
+}
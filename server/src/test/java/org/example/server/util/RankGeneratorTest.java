@@ -0,0 +1,95 @@
+package org.example.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankGeneratorTest {
+
+    @Test
+    void between_AppendsAndPrependsKeepFixedWidth() {
+        String last = RankGenerator.between(null, null);
+        String first = last;
+        for (int i = 0; i < 10_000; i++) {
+            String next = RankGenerator.between(last, null);
+            String previous = RankGenerator.between(null, first);
+            assertTrue(next.compareTo(last) > 0);
+            assertTrue(previous.compareTo(first) < 0);
+            assertEquals(RankGenerator.WIDTH, next.length());
+            assertEquals(RankGenerator.WIDTH, previous.length());
+            last = next;
+            first = previous;
+        }
+    }
+
+    @Test
+    void between_RepeatedPrependsFromLowKeyNeverRunOut() {
+        // Première carte des colonnes migrées : position 1 * 36^2.
+        String first = "000100";
+        for (int i = 0; i < 100; i++) {
+            String previous = RankGenerator.between(null, first);
+            assertTrue(previous.compareTo(first) < 0, previous + " >= " + first);
+            assertTrue(RankGenerator.hasRankBefore(previous), previous);
+            first = previous;
+        }
+        assertTrue(first.length() <= RankGenerator.MAX_LENGTH, first);
+    }
+
+    @Test
+    void hasRankBefore_FalseOnlyForAllZeroKeys() {
+        assertFalse(RankGenerator.hasRankBefore("000000"));
+        assertFalse(RankGenerator.hasRankBefore("0"));
+        assertTrue(RankGenerator.hasRankBefore("000001"));
+        assertTrue(RankGenerator.hasRankBefore("0000i"));
+        assertThrows(IllegalArgumentException.class, () -> RankGenerator.between(null, "000000"));
+    }
+
+    @Test
+    void between_RandomInsertionsStayStrictlyOrdered() {
+        Random random = new Random(42);
+        List<String> ranks = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int index = random.nextInt(ranks.size() + 1);
+            String before = index == 0 ? null : ranks.get(index - 1);
+            String after = index == ranks.size() ? null : ranks.get(index);
+            ranks.add(index, RankGenerator.between(before, after));
+        }
+
+        for (int i = 1; i < ranks.size(); i++) {
+            assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0);
+        }
+    }
+
+    @Test
+    void between_RepeatedInsertionAtSameGapGrowsSlowly() {
+        String before = RankGenerator.between(null, null);
+        String after = RankGenerator.between(before, null);
+        for (int i = 0; i < 100; i++) {
+            String rank = RankGenerator.between(before, after);
+            assertTrue(before.compareTo(rank) < 0 && rank.compareTo(after) < 0);
+            after = rank;
+        }
+        assertTrue(after.length() < 40, after);
+    }
+
+    @Test
+    void spread_ProducesOrderedFixedWidthKeys() {
+        String previous = null;
+        for (int i = 0; i < 1_000; i++) {
+            String rank = RankGenerator.spread(i, 1_000);
+            assertEquals(RankGenerator.WIDTH, rank.length());
+            assertTrue(previous == null || previous.compareTo(rank) < 0);
+            previous = rank;
+        }
+    }
+
+    @Test
+    void between_UnorderedBounds_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> RankGenerator.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankGenerator.between("a", "a"));
+    }
+}